@@ -0,0 +1,136 @@
+package com.hotel.roommanagement.benchmark;
+
+import com.hotel.roommanagement.HotelRoomManagementApplication;
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.entity.RoomType;
+import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.service.RoomStatisticsTracker;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared setup for the benchmarks
+ *
+ * Benchmarks run against the real application context (generated
+ * mappers, the configured ObjectMapper, repositories and caches) on a
+ * private in-memory H2 database, with SQL and debug logging turned off.
+ */
+final class BenchmarkApplication {
+
+    private static final RoomStatus[] STATUSES = RoomStatus.values();
+    private static final String[] VIEW_TYPES = {"Sea view", "City view", "Garden view", "Courtyard"};
+    private static final int ROOM_TYPES = 4;
+    private static final int FLOORS = 50;
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final long SEED_FIRST_ID = 1_000_000L;
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Start the application without a web server on its own H2 database
+     */
+    static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(HotelRoomManagementApplication.class)
+            .web(WebApplicationType.NONE)
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            // Command line arguments, so they take precedence over application.yml
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName,
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.hotel.roommanagement=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.org.springframework.beans.factory.support.DisposableBeanAdapter=ERROR");
+    }
+
+    /**
+     * Insert rooms spread over the sample room types, floors, statuses and views
+     *
+     * Rooms are written with JDBC batches and the in-memory statistics are
+     * rebuilt afterwards.
+     */
+    static void seedRooms(ConfigurableApplicationContext context, int count) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[] {
+                SEED_FIRST_ID + i,
+                "B" + i,
+                1 + i % ROOM_TYPES,
+                1 + i % FLOORS,
+                STATUSES[i % STATUSES.length].name(),
+                VIEW_TYPES[i % VIEW_TYPES.length],
+                i % 3 == 0,
+                now,
+                now
+            });
+            if (batch.size() == SEED_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO rooms (id, room_number, room_type_id, floor, status, view_type, has_balcony, " +
+                    "is_active, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, true, 0, ?, ?)",
+                    batch);
+                batch.clear();
+            }
+        }
+
+        context.getBean(RoomStatisticsTracker.class).rebuild();
+    }
+
+    /**
+     * Detached rooms with their room type set, for mapping and serialization
+     */
+    static List<Room> rooms(int count) {
+        List<RoomType> roomTypes = new ArrayList<>(ROOM_TYPES);
+        for (int i = 1; i <= ROOM_TYPES; i++) {
+            roomTypes.add(RoomType.builder()
+                .id((long) i)
+                .name("Room type " + i)
+                .description("Benchmark room type " + i)
+                .basePrice(BigDecimal.valueOf(100L * i))
+                .maxOccupancy(1 + i)
+                .sizeSqm(20 + 10 * i)
+                .amenities("[\"WiFi\", \"TV\", \"Air Conditioning\"]")
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        }
+
+        List<Room> rooms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RoomType roomType = roomTypes.get(i % ROOM_TYPES);
+            rooms.add(Room.builder()
+                .id((long) i + 1)
+                .roomNumber(String.valueOf(100 + i))
+                .roomTypeId(roomType.getId())
+                .roomType(roomType)
+                .floor(1 + i % FLOORS)
+                .status(STATUSES[i % STATUSES.length])
+                .viewType(VIEW_TYPES[i % VIEW_TYPES.length])
+                .hasBalcony(i % 3 == 0)
+                .wifiPassword("hotel" + i)
+                .notes(i % 5 == 0 ? "Recently renovated" : null)
+                .isActive(true)
+                .version(0L)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        }
+        return rooms;
+    }
+}
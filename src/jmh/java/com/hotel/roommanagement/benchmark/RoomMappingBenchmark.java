@@ -0,0 +1,56 @@
+package com.hotel.roommanagement.benchmark;
+
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.mapper.RoomMapper;
+import com.hotel.roommanagement.mapper.RoomTypeCounts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoomMapper throughput for one page of rooms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoomMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private RoomMapper roomMapper;
+    private List<Room> rooms;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("mapping");
+        roomMapper = context.getBean(RoomMapper.class);
+        rooms = BenchmarkApplication.rooms(pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void toResponse(Blackhole blackhole) {
+        RoomTypeCounts counts = RoomTypeCounts.empty();
+        for (Room room : rooms) {
+            blackhole.consume(roomMapper.toResponse(room, counts));
+        }
+    }
+
+    @Benchmark
+    public List<RoomDto.ListItem> toListItems() {
+        return roomMapper.toListItems(rooms);
+    }
+}
@@ -0,0 +1,73 @@
+package com.hotel.roommanagement.benchmark;
+
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.service.RoomService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RoomService queries against an H2 dataset of the given size
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RoomQueryBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rooms;
+
+    private ConfigurableApplicationContext context;
+    private RoomService roomService;
+
+    private final Pageable firstPage = PageRequest.of(0, 20);
+    private RoomDto.FilterRequest statusAndFloor;
+    private RoomDto.FilterRequest typeAndPrice;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("query" + rooms);
+        BenchmarkApplication.seedRooms(context, rooms);
+        roomService = context.getBean(RoomService.class);
+
+        statusAndFloor = RoomDto.FilterRequest.builder()
+            .status(RoomStatus.AVAILABLE)
+            .floor(7)
+            .build();
+        typeAndPrice = RoomDto.FilterRequest.builder()
+            .roomTypeId(2L)
+            .hasBalcony(true)
+            .minPrice(BigDecimal.valueOf(100))
+            .maxPrice(BigDecimal.valueOf(200))
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<RoomDto.Response> searchByStatusAndFloor() {
+        return roomService.searchRooms(statusAndFloor, firstPage);
+    }
+
+    @Benchmark
+    public Page<RoomDto.Response> searchByTypeAndPrice() {
+        return roomService.searchRooms(typeAndPrice, firstPage);
+    }
+
+    @Benchmark
+    public RoomDto.Statistics roomStatistics() {
+        return roomService.getRoomStatistics();
+    }
+}
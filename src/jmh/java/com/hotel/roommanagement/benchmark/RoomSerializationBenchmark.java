@@ -0,0 +1,57 @@
+package com.hotel.roommanagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.mapper.RoomMapper;
+import com.hotel.roommanagement.mapper.RoomTypeCounts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a page of room responses, as returned by GET /api/v1/rooms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoomSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private Page<RoomDto.Response> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("serialization");
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        RoomMapper roomMapper = context.getBean(RoomMapper.class);
+        page = new PageImpl<>(
+            BenchmarkApplication.rooms(pageSize).stream()
+                .map(room -> roomMapper.toResponse(room, RoomTypeCounts.empty()))
+                .toList(),
+            PageRequest.of(0, pageSize),
+            10_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
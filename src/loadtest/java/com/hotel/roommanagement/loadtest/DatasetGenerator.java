@@ -0,0 +1,230 @@
+package com.hotel.roommanagement.loadtest;
+
+import com.hotel.roommanagement.enums.RoomStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Synthetic multi-property dataset for load tests
+ *
+ * Registered by {@link LoadTest} when it starts the application.
+ * Generates a set of properties (hotels), each with its own room types
+ * and floors x rooms-per-floor rooms. Room numbers are prefixed with the
+ * property ("P03-1207"), room type names with the property code. Room
+ * statuses follow the configured weights, so the data can be skewed
+ * towards e.g. a mostly occupied hotel.
+ *
+ * Rows are written with JDBC batches using explicit ids above the sample
+ * data, after which the id sequences are moved past them. Plain SQL keeps
+ * the generator usable against H2 (also in PostgreSQL mode) and
+ * PostgreSQL. Runs before the other startup listeners so every in-memory
+ * index is built from the generated data.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGenerator {
+
+    private static final int MAX_FLOORS = 50;
+    private static final int MAX_PROPERTIES = 99;
+    private static final int MAX_ROOMS_PER_FLOOR = 99;
+    private static final int BATCH_SIZE = 1000;
+    private static final long FIRST_ROOM_TYPE_ID = 10_000L;
+    private static final long FIRST_ROOM_ID = 1_000_000L;
+
+    private static final String[] ROOM_TYPE_NAMES = {"Standard", "Deluxe", "Suite", "Family", "Executive", "Studio"};
+    private static final String[] VIEW_TYPES = {"Sea view", "City view", "Garden view", "Mountain view", "Courtyard"};
+    private static final String[] AMENITIES = {
+        "\"WiFi\"", "\"TV\"", "\"Air Conditioning\"", "\"Mini Bar\"", "\"Room Service\"", "\"Balcony\"", "\"Kitchenette\""
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.dataset.properties:5}")
+    private int properties;
+
+    @Value("${app.dataset.floors:20}")
+    private int floors;
+
+    @Value("${app.dataset.rooms-per-floor:40}")
+    private int roomsPerFloor;
+
+    @Value("${app.dataset.room-types-per-property:4}")
+    private int roomTypesPerProperty;
+
+    @Value("${app.dataset.status-weights:AVAILABLE:60,OCCUPIED:30,MAINTENANCE:7,OUT_OF_ORDER:3}")
+    private String statusWeights;
+
+    @Value("${app.dataset.seed:42}")
+    private long seed;
+
+    /**
+     * Generate the dataset before the in-memory indexes are built
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(-1)
+    public void generate() {
+        validate();
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+        RoomStatus[] statusTable = statusTable(parseWeights(statusWeights));
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int roomTypeCount = transaction.execute(status -> insertRoomTypes(random));
+        int roomCount = 0;
+        for (int property = 1; property <= properties; property++) {
+            int propertyNumber = property;
+            roomCount += transaction.execute(status -> insertRooms(propertyNumber, random, statusTable));
+        }
+
+        jdbcTemplate.execute("ALTER SEQUENCE room_types_seq RESTART WITH " + (FIRST_ROOM_TYPE_ID + roomTypeCount));
+        jdbcTemplate.execute("ALTER SEQUENCE rooms_seq RESTART WITH " + (FIRST_ROOM_ID + roomCount));
+
+        log.info("Generated dataset: {} properties, {} room types, {} rooms in {} ms",
+            properties, roomTypeCount, roomCount, System.currentTimeMillis() - started);
+    }
+
+    private int insertRoomTypes(Random random) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int property = 1; property <= properties; property++) {
+            for (int type = 0; type < roomTypesPerProperty; type++) {
+                String baseName = ROOM_TYPE_NAMES[type % ROOM_TYPE_NAMES.length];
+                int amenityCount = 2 + Math.min(type + random.nextInt(2), AMENITIES.length - 2);
+                rows.add(new Object[] {
+                    roomTypeId(property, type),
+                    String.format(Locale.ROOT, "%s %s %d", propertyCode(property), baseName, type + 1),
+                    baseName + " room at property " + propertyCode(property),
+                    BigDecimal.valueOf(80 + 40L * type + random.nextInt(40)),
+                    Math.min(2 + type, 10),
+                    20 + 12 * type,
+                    "[" + String.join(", ", List.of(AMENITIES).subList(0, amenityCount)) + "]",
+                    now,
+                    now
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO room_types (id, name, description, base_price, max_occupancy, size_sqm, amenities, " +
+            "amenity_mask, is_active, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, NULL, true, 0, ?, ?)",
+            rows);
+        return rows.size();
+    }
+
+    private int insertRooms(int property, Random random, RoomStatus[] statusTable) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        int roomsPerProperty = floors * roomsPerFloor;
+        long firstId = FIRST_ROOM_ID + (long) (property - 1) * roomsPerProperty;
+        int count = 0;
+
+        for (int floor = 1; floor <= floors; floor++) {
+            for (int room = 1; room <= roomsPerFloor; room++) {
+                int type = random.nextInt(roomTypesPerProperty);
+                batch.add(new Object[] {
+                    firstId + count,
+                    String.format(Locale.ROOT, "%s-%02d%02d", propertyCode(property), floor, room),
+                    roomTypeId(property, type),
+                    floor,
+                    statusTable[random.nextInt(statusTable.length)].name(),
+                    VIEW_TYPES[random.nextInt(VIEW_TYPES.length)],
+                    random.nextInt(100) < 20 + 15 * type,
+                    "wifi" + random.nextInt(1_000_000),
+                    now,
+                    now
+                });
+                count++;
+                if (batch.size() == BATCH_SIZE) {
+                    insertRoomBatch(batch);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertRoomBatch(batch);
+        }
+        return count;
+    }
+
+    private void insertRoomBatch(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO rooms (id, room_number, room_type_id, floor, status, view_type, has_balcony, " +
+            "wifi_password, is_active, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, true, 0, ?, ?)",
+            batch);
+        batch.clear();
+    }
+
+    private void validate() {
+        if (properties < 1 || properties > MAX_PROPERTIES) {
+            throw new IllegalStateException("app.dataset.properties must be between 1 and " + MAX_PROPERTIES);
+        }
+        if (floors < 1 || floors > MAX_FLOORS) {
+            throw new IllegalStateException("app.dataset.floors must be between 1 and " + MAX_FLOORS);
+        }
+        if (roomsPerFloor < 1 || roomsPerFloor > MAX_ROOMS_PER_FLOOR) {
+            throw new IllegalStateException("app.dataset.rooms-per-floor must be between 1 and " + MAX_ROOMS_PER_FLOOR);
+        }
+        if (roomTypesPerProperty < 1) {
+            throw new IllegalStateException("app.dataset.room-types-per-property must be at least 1");
+        }
+    }
+
+    /**
+     * Parse "STATUS:weight,..." into weights per status
+     */
+    private Map<RoomStatus, Integer> parseWeights(String weights) {
+        Map<RoomStatus, Integer> parsed = new EnumMap<>(RoomStatus.class);
+        for (String entry : weights.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalStateException("Invalid app.dataset.status-weights entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalStateException("Status weights cannot be negative: " + entry);
+            }
+            parsed.put(RoomStatus.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        return parsed;
+    }
+
+    /**
+     * Lookup table with one entry per unit of weight, so drawing a status is one array access
+     */
+    private RoomStatus[] statusTable(Map<RoomStatus, Integer> weights) {
+        List<RoomStatus> table = new ArrayList<>();
+        weights.forEach((status, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(status);
+            }
+        });
+        if (table.isEmpty()) {
+            throw new IllegalStateException("app.dataset.status-weights must have a positive total");
+        }
+        return table.toArray(RoomStatus[]::new);
+    }
+
+    private long roomTypeId(int property, int type) {
+        return FIRST_ROOM_TYPE_ID + (long) (property - 1) * roomTypesPerProperty + type;
+    }
+
+    private static String propertyCode(int property) {
+        return String.format(Locale.ROOT, "P%02d", property);
+    }
+}
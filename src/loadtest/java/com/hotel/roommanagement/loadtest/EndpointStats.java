@@ -0,0 +1,95 @@
+package com.hotel.roommanagement.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and outcomes recorded for one endpoint by one worker
+ *
+ * Each worker owns its own instances, so recording needs no
+ * synchronization; workers' stats are merged once the run has ended.
+ */
+final class EndpointStats {
+
+    private final String endpoint;
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private int clientErrors;
+    private int serverErrors;
+    private int failures;
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    void record(long latencyNanos, int status) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (status >= 500) {
+            serverErrors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        }
+    }
+
+    /**
+     * Request that never produced a response (I/O error or timeout)
+     */
+    void recordFailure() {
+        failures++;
+    }
+
+    void merge(EndpointStats other) {
+        if (count + other.count > latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count + other.count);
+        }
+        System.arraycopy(other.latenciesNanos, 0, latenciesNanos, count, other.count);
+        count += other.count;
+        clientErrors += other.clientErrors;
+        serverErrors += other.serverErrors;
+        failures += other.failures;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int clientErrors() {
+        return clientErrors;
+    }
+
+    int serverErrors() {
+        return serverErrors;
+    }
+
+    int failures() {
+        return failures;
+    }
+
+    /**
+     * Sort the recorded latencies; call once before reading percentiles
+     */
+    void seal() {
+        Arrays.sort(latenciesNanos, 0, count);
+    }
+
+    /**
+     * Latency percentile in milliseconds, nearest-rank
+     */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return latenciesNanos[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+
+    double maxMillis() {
+        return count == 0 ? 0 : latenciesNanos[count - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,401 @@
+package com.hotel.roommanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hotel.roommanagement.HotelRoomManagementApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Scripted load test against the room and room type endpoints
+ *
+ * Starts the application on a random port with a generated multi-property
+ * dataset (see DatasetGenerator), then drives it with a fixed number of
+ * simulated users over HTTP. Each user loops over a weighted mix of reads
+ * and writes with no think time; the share of writes is configurable.
+ * Requests made during the warm-up are discarded. Per-endpoint request
+ * counts, throughput, p50/p90/p99/max latency and error counts are
+ * printed and written as JSON. The application can run on platform or
+ * virtual request threads, or be started once in each mode with the same
+ * workload to compare them.
+ *
+ * Configured with system properties:
+ * <ul>
+ *   <li>{@code loadtest.users} - concurrent simulated users (default 16)</li>
+ *   <li>{@code loadtest.warmup} / {@code loadtest.duration} - ISO-8601 durations (PT10S / PT30S)</li>
+ *   <li>{@code loadtest.write-ratio} - share of requests that are writes, 0-1 (0.1)</li>
+ *   <li>{@code loadtest.database} - {@code h2}, or {@code postgresql} for H2 in PostgreSQL mode</li>
+ *   <li>{@code loadtest.threading} - {@code platform}, {@code virtual} (Java 21) or {@code both}</li>
+ *   <li>{@code loadtest.mix} - {@code full}, or {@code listing-status} for room listing reads and
+ *       status update writes only</li>
+ *   <li>{@code loadtest.report} - JSON report path (target/loadtest-report.json)</li>
+ *   <li>{@code app.dataset.*} - dataset size and status distribution</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] TARGET_STATUSES = {"AVAILABLE", "OCCUPIED", "MAINTENANCE"};
+
+    private final int users;
+    private final Duration warmup;
+    private final Duration duration;
+    private final double writeRatio;
+    private final String database;
+    private final List<String> threadingModes;
+    private final boolean listingStatusOnly;
+    private final Path reportPath;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(REQUEST_TIMEOUT)
+        .build();
+
+    private String baseUrl;
+    private long[] roomIds;
+    private long[] roomTypeIds;
+    private int floors;
+
+    private LoadTest() {
+        users = Integer.getInteger("loadtest.users", 16);
+        warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        writeRatio = Double.parseDouble(System.getProperty("loadtest.write-ratio", "0.1"));
+        database = System.getProperty("loadtest.database", "h2").toLowerCase(Locale.ROOT);
+        threadingModes = threadingModes(System.getProperty("loadtest.threading", "platform").toLowerCase(Locale.ROOT));
+        listingStatusOnly = switch (System.getProperty("loadtest.mix", "full").toLowerCase(Locale.ROOT)) {
+            case "full" -> false;
+            case "listing-status" -> true;
+            default -> throw new IllegalArgumentException("loadtest.mix must be full or listing-status");
+        };
+        reportPath = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+        if (users < 1) {
+            throw new IllegalArgumentException("loadtest.users must be at least 1");
+        }
+        if (writeRatio < 0 || writeRatio > 1) {
+            throw new IllegalArgumentException("loadtest.write-ratio must be between 0 and 1");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run();
+    }
+
+    private static List<String> threadingModes(String threading) {
+        List<String> modes = switch (threading) {
+            case "platform", "virtual" -> List.of(threading);
+            case "both" -> List.of("platform", "virtual");
+            default -> throw new IllegalArgumentException("loadtest.threading must be platform, virtual or both");
+        };
+        if (modes.contains("virtual") && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21, running on " + Runtime.version());
+        }
+        return modes;
+    }
+
+    private void run() throws Exception {
+        List<Run> runs = new ArrayList<>();
+        for (String threading : threadingModes) {
+            try (ConfigurableApplicationContext context = start(threading)) {
+                loadTargets(context);
+                System.out.printf(Locale.ROOT, "Load test: %d rooms, %d room types, %d users, %.0f%% writes, %s warm-up, %s measured (%s, %s threads)%n",
+                    roomIds.length, roomTypeIds.length, users, writeRatio * 100, warmup, duration, database, threading);
+
+                Run run = new Run(threading, roomIds.length, roomTypeIds.length, drive());
+                printReport(run.results());
+                runs.add(run);
+            }
+        }
+        writeReport(runs);
+    }
+
+    /**
+     * Start the application on a random port with the dataset generator registered
+     *
+     * Server, database and logging settings are passed as command line
+     * arguments so they take precedence over application.yml; dataset
+     * sizes come from system properties such as
+     * {@code -Dapp.dataset.floors=50}.
+     */
+    private ConfigurableApplicationContext start(String threading) {
+        String url = switch (database) {
+            case "h2" -> "jdbc:h2:mem:loadtest-" + threading;
+            case "postgresql" -> "jdbc:h2:mem:loadtest-" + threading
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+            default -> throw new IllegalArgumentException("loadtest.database must be h2 or postgresql");
+        };
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HotelRoomManagementApplication.class)
+            .sources(DatasetGenerator.class)
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + "virtual".equals(threading),
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.hotel.roommanagement=ERROR",
+                "--logging.level.org.springframework.web=ERROR",
+                "--logging.level.com.hotel.roommanagement.exception=OFF",
+                "--logging.level.com.hotel.roommanagement.loadtest.DatasetGenerator=INFO",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                // H2 shuts the in-memory database down before Spring's own shutdown executor runs
+                "--logging.level.org.springframework.beans.factory.support.DisposableBeanAdapter=ERROR");
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+        baseUrl = "http://localhost:" + port + contextPath + "/api/v1";
+        return context;
+    }
+
+    private void loadTargets(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        roomIds = jdbcTemplate.queryForList("SELECT id FROM rooms WHERE is_active = true", Long.class)
+            .stream().mapToLong(Long::longValue).toArray();
+        roomTypeIds = jdbcTemplate.queryForList("SELECT id FROM room_types WHERE is_active = true", Long.class)
+            .stream().mapToLong(Long::longValue).toArray();
+        floors = jdbcTemplate.queryForObject("SELECT MAX(floor) FROM rooms", Integer.class);
+    }
+
+    /**
+     * Run the warm-up and the measured phase and merge every user's stats
+     */
+    private Map<String, EndpointStats> drive() throws Exception {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        List<Future<Map<String, EndpointStats>>> workers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            workers.add(executor.submit(() -> work(measureFrom, stopAt)));
+        }
+
+        Map<String, EndpointStats> merged = new TreeMap<>();
+        for (Future<Map<String, EndpointStats>> worker : workers) {
+            worker.get().forEach((endpoint, stats) ->
+                merged.computeIfAbsent(endpoint, EndpointStats::new).merge(stats));
+        }
+        executor.shutdown();
+        merged.values().forEach(EndpointStats::seal);
+        return merged;
+    }
+
+    private Map<String, EndpointStats> work(long measureFrom, long stopAt) {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long now;
+        while ((now = System.nanoTime()) < stopAt) {
+            Call call = random.nextDouble() < writeRatio ? nextWrite(random) : nextRead(random);
+            boolean measured = now >= measureFrom;
+
+            long started = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(call.request(), HttpResponse.BodyHandlers.discarding());
+                if (measured) {
+                    stats.computeIfAbsent(call.endpoint(), EndpointStats::new)
+                        .record(System.nanoTime() - started, response.statusCode());
+                }
+            } catch (IOException ex) {
+                if (measured) {
+                    stats.computeIfAbsent(call.endpoint(), EndpointStats::new).recordFailure();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Weighted read mix: single-room lookups dominate, list and search calls follow
+     */
+    private Call nextRead(ThreadLocalRandom random) {
+        int pick = listingStatusOnly ? 30 : random.nextInt(100);
+        if (pick < 30) {
+            return get("GET /rooms/{id}", "/rooms/" + randomRoom(random));
+        }
+        if (pick < 45) {
+            return listRooms(random);
+        }
+        if (pick < 60) {
+            String filter = random.nextBoolean()
+                ? "{\"status\":\"AVAILABLE\",\"roomTypeId\":" + randomRoomType(random) + "}"
+                : "{\"floor\":" + (1 + random.nextInt(floors)) + ",\"hasBalcony\":true}";
+            return send("POST /rooms/search", "/rooms/search?size=20", "POST", filter);
+        }
+        if (pick < 75) {
+            return get("GET /room-types/{id}", "/room-types/" + randomRoomType(random));
+        }
+        if (pick < 85) {
+            return get("GET /room-types/active", "/room-types/active");
+        }
+        if (pick < 90) {
+            return get("GET /rooms/scroll", "/rooms/scroll?size=50");
+        }
+        if (pick < 95) {
+            return get("GET /rooms/floor/{floor}", "/rooms/floor/" + (1 + random.nextInt(floors)));
+        }
+        return get("GET /rooms/statistics", "/rooms/statistics");
+    }
+
+    /**
+     * Weighted write mix
+     *
+     * Status targets are drawn without reading the current status, so some
+     * requests are rejected as invalid transitions and show up as 4xx.
+     */
+    private Call nextWrite(ThreadLocalRandom random) {
+        int pick = listingStatusOnly ? 0 : random.nextInt(10);
+        if (pick < 6) {
+            return updateStatus(random);
+        }
+        if (pick < 9) {
+            return send("PUT /rooms/{id}", "/rooms/" + randomRoom(random), "PUT",
+                "{\"notes\":\"Load test note " + random.nextInt(1000) + "\"}");
+        }
+        return send("PUT /room-types/{id}", "/room-types/" + randomRoomType(random), "PUT",
+            "{\"description\":\"Load test description " + random.nextInt(1000) + "\"}");
+    }
+
+    private Call listRooms(ThreadLocalRandom random) {
+        int pages = Math.max(1, Math.min(roomIds.length / 20, 50));
+        return get("GET /rooms", "/rooms?page=" + random.nextInt(pages) + "&size=20");
+    }
+
+    private Call updateStatus(ThreadLocalRandom random) {
+        String status = TARGET_STATUSES[random.nextInt(TARGET_STATUSES.length)];
+        return send("PATCH /rooms/{id}/status", "/rooms/" + randomRoom(random) + "/status", "PATCH",
+            "{\"status\":\"" + status + "\",\"notes\":\"Load test\"}");
+    }
+
+    private long randomRoom(ThreadLocalRandom random) {
+        return roomIds[random.nextInt(roomIds.length)];
+    }
+
+    private long randomRoomType(ThreadLocalRandom random) {
+        return roomTypeIds[random.nextInt(roomTypeIds.length)];
+    }
+
+    private Call get(String endpoint, String path) {
+        return new Call(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build());
+    }
+
+    private Call send(String endpoint, String path, String method, String json) {
+        return new Call(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(json))
+            .build());
+    }
+
+    private void printReport(Map<String, EndpointStats> results) {
+        double seconds = duration.toNanos() / 1e9;
+        String format = "%-28s %9s %9s %9s %9s %9s %9s %6s %6s %6s%n";
+        System.out.printf(Locale.ROOT, format, "Endpoint", "Requests", "Req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "4xx", "5xx", "Failed");
+
+        EndpointStats total = new EndpointStats("TOTAL");
+        for (EndpointStats stats : results.values()) {
+            printRow(format, stats, seconds);
+            total.merge(stats);
+        }
+        total.seal();
+        printRow(format, total, seconds);
+    }
+
+    private void printRow(String format, EndpointStats stats, double seconds) {
+        System.out.printf(Locale.ROOT, format, stats.endpoint(), stats.count(),
+            String.format(Locale.ROOT, "%.1f", stats.count() / seconds),
+            millis(stats.percentileMillis(50)), millis(stats.percentileMillis(90)),
+            millis(stats.percentileMillis(99)), millis(stats.maxMillis()),
+            stats.clientErrors(), stats.serverErrors(), stats.failures());
+    }
+
+    private String millis(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private void writeReport(List<Run> runs) throws IOException {
+        List<Map<String, Object>> runReports = new ArrayList<>();
+        for (Run run : runs) {
+            Map<String, Object> runReport = new LinkedHashMap<>();
+            runReport.put("threading", run.threading());
+            runReport.put("rooms", run.rooms());
+            runReport.put("roomTypes", run.roomTypes());
+            runReport.put("endpoints", endpointReports(run.results()));
+            runReports.add(runReport);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("database", database);
+        report.put("users", users);
+        report.put("writeRatio", writeRatio);
+        report.put("mix", listingStatusOnly ? "listing-status" : "full");
+        report.put("warmup", warmup.toString());
+        report.put("duration", duration.toString());
+        report.put("runs", runReports);
+
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    private List<Map<String, Object>> endpointReports(Map<String, EndpointStats> results) {
+        double seconds = duration.toNanos() / 1e9;
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (EndpointStats stats : results.values()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", stats.endpoint());
+            row.put("requests", stats.count());
+            row.put("throughputPerSecond", stats.count() / seconds);
+            row.put("p50Millis", stats.percentileMillis(50));
+            row.put("p90Millis", stats.percentileMillis(90));
+            row.put("p99Millis", stats.percentileMillis(99));
+            row.put("maxMillis", stats.maxMillis());
+            row.put("clientErrors", stats.clientErrors());
+            row.put("serverErrors", stats.serverErrors());
+            row.put("failures", stats.failures());
+            endpoints.add(row);
+        }
+        return endpoints;
+    }
+
+    private record Call(String endpoint, HttpRequest request) {
+    }
+
+    private record Run(String threading, int rooms, int roomTypes, Map<String, EndpointStats> results) {
+    }
+}
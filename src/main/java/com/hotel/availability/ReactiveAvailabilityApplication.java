@@ -0,0 +1,37 @@
+package com.hotel.availability;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Reactive room availability API
+ *
+ * Read-only companion to the Hotel Room Management System for kiosks and
+ * channel managers that keep many connections open polling availability.
+ * Runs on WebFlux and R2DBC against the same database, so a few event-loop
+ * threads serve requests that would otherwise each hold a servlet thread.
+ * Responses use the DTOs of {@code com.hotel.roommanagement.dto}.
+ *
+ * Configured by {@code reactive-api.yml} instead of application.yml.
+ */
+@SpringBootApplication
+public class ReactiveAvailabilityApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveAvailabilityApplication.class)
+            .web(WebApplicationType.REACTIVE)
+            .properties("spring.config.name=reactive-api")
+            .run(args);
+    }
+
+    /**
+     * Serve on Netty's event loops; Spring Boot would prefer the Tomcat also on the classpath
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,105 @@
+package com.hotel.availability.controller;
+
+import com.hotel.availability.repository.RoomAvailabilityRepository;
+import com.hotel.roommanagement.dto.ReservationDto;
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import com.hotel.roommanagement.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Reactive read-only availability endpoints
+ *
+ * Paths, payloads and errors match the servlet API. Room listings are
+ * streamed as a JSON array, or as newline-delimited JSON when the client
+ * accepts {@code application/x-ndjson}, and follow the client's demand.
+ * Stay availability is a single response with the stay and its free
+ * rooms, as in the servlet API.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+public class RoomAvailabilityController {
+
+    private final RoomAvailabilityRepository roomAvailabilityRepository;
+
+    @Value("${app.reservations.max-nights:90}")
+    private int maxNights;
+
+    @GetMapping(value = "/rooms/available",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<RoomDto.ListItem> getAvailableRooms() {
+        return roomAvailabilityRepository.findAvailableRooms();
+    }
+
+    @GetMapping(value = "/rooms/available/type/{roomTypeId}",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<RoomDto.ListItem> getAvailableRoomsByType(@PathVariable Long roomTypeId) {
+        return requireRoomType(roomTypeId)
+            .thenMany(roomAvailabilityRepository.findAvailableRoomsByType(roomTypeId));
+    }
+
+    /**
+     * Like the servlet API, an unknown room type has no free rooms rather than being an error
+     */
+    @GetMapping(value = "/reservations/availability", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ReservationDto.AvailabilityResponse> getAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+            @RequestParam(required = false) Long roomTypeId) {
+
+        validateStay(checkIn, checkOut);
+
+        return roomAvailabilityRepository.findRoomsFreeForStay(roomTypeId, checkIn, checkOut)
+            .collectList()
+            .map(rooms -> ReservationDto.AvailabilityResponse.builder()
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .nights(ChronoUnit.DAYS.between(checkIn, checkOut))
+                .roomTypeId(roomTypeId)
+                .totalAvailable(rooms.size())
+                .rooms(rooms)
+                .build());
+    }
+
+    /**
+     * Same rules as RoomService: the room type must exist and be active
+     */
+    private Mono<Void> requireRoomType(Long roomTypeId) {
+        return roomAvailabilityRepository.isRoomTypeActive(roomTypeId)
+            .switchIfEmpty(Mono.error(new ResourceNotFoundException("Room type not found with ID: " + roomTypeId)))
+            .flatMap(active -> active
+                ? Mono.<Void>empty()
+                : Mono.error(new BusinessLogicException("Cannot assign room to inactive room type")));
+    }
+
+    /**
+     * Same rules as ReservationService
+     */
+    private void validateStay(LocalDate checkIn, LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) {
+            throw new BusinessLogicException("Check-out date must be after check-in date");
+        }
+        if (checkIn.isBefore(LocalDate.now())) {
+            throw new BusinessLogicException("Check-in date cannot be in the past");
+        }
+        if (ChronoUnit.DAYS.between(checkIn, checkOut) > maxNights) {
+            throw new BusinessLogicException("A stay cannot exceed " + maxNights + " nights");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.hotel.availability.exception;
+
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import com.hotel.roommanagement.exception.GlobalExceptionHandler.ErrorResponse;
+import com.hotel.roommanagement.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exception handler for the reactive API, with the servlet API's error body
+ */
+@RestControllerAdvice
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerHttpRequest request) {
+
+        log.error("Resource not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, "Resource Not Found", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(BusinessLogicException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessLogicException(
+            BusinessLogicException ex, ServerHttpRequest request) {
+
+        log.error("Business logic error: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Business Logic Error", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(
+            ServerWebInputException ex, ServerHttpRequest request) {
+
+        log.error("Invalid request input: {}", ex.getReason());
+        return error(HttpStatus.BAD_REQUEST, "Invalid Parameter", ex.getReason(), request);
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message,
+                                                ServerHttpRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(status.value())
+            .error(error)
+            .message(message)
+            .path(request.getPath().value())
+            .build();
+
+        return new ResponseEntity<>(errorResponse, status);
+    }
+}
@@ -0,0 +1,123 @@
+package com.hotel.availability.repository;
+
+import com.hotel.roommanagement.dto.ReservationDto;
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.enums.RoomStatus;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Availability queries over R2DBC
+ *
+ * Rows are mapped straight to the shared DTOs and emitted as they are
+ * read. Statements use a fetch size, so drivers that support cursors
+ * (PostgreSQL) only pull further rows from the database as subscribers
+ * request them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoomAvailabilityRepository {
+
+    private static final int FETCH_SIZE = 250;
+
+    private static final String AVAILABLE_ROOMS =
+        "SELECT r.id, r.room_number, r.floor, r.status, r.view_type, r.has_balcony, r.is_active, " +
+        "t.name AS room_type_name, t.base_price " +
+        "FROM rooms r JOIN room_types t ON t.id = r.room_type_id " +
+        "WHERE r.status = 'AVAILABLE' AND r.is_active = true ";
+
+    private static final String ORDER_BY_FLOOR = "ORDER BY r.floor, r.room_number, r.id";
+
+    /**
+     * Active rooms that are free for every night of a stay: not out of order
+     * and without a confirmed reservation overlapping [checkIn, checkOut)
+     */
+    private static final String ROOMS_FREE_FOR_STAY =
+        "SELECT r.id, r.room_number, r.room_type_id, r.floor FROM rooms r " +
+        "WHERE r.is_active = true AND r.status <> 'OUT_OF_ORDER' " +
+        "AND NOT EXISTS (SELECT 1 FROM reservations v WHERE v.room_id = r.id AND v.status = 'CONFIRMED' " +
+        "AND v.check_in < :checkOut AND v.check_out > :checkIn) ";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Find available rooms
+     */
+    public Flux<RoomDto.ListItem> findAvailableRooms() {
+        return databaseClient.sql(AVAILABLE_ROOMS + ORDER_BY_FLOOR)
+            .filter(statement -> statement.fetchSize(FETCH_SIZE))
+            .map(this::toListItem)
+            .all();
+    }
+
+    /**
+     * Find available rooms by room type
+     */
+    public Flux<RoomDto.ListItem> findAvailableRoomsByType(Long roomTypeId) {
+        return databaseClient.sql(AVAILABLE_ROOMS + "AND r.room_type_id = :roomTypeId " + ORDER_BY_FLOOR)
+            .bind("roomTypeId", roomTypeId)
+            .filter(statement -> statement.fetchSize(FETCH_SIZE))
+            .map(this::toListItem)
+            .all();
+    }
+
+    /**
+     * Find rooms free for a stay, optionally of one room type
+     */
+    public Flux<ReservationDto.AvailableRoom> findRoomsFreeForStay(Long roomTypeId, LocalDate checkIn, LocalDate checkOut) {
+        DatabaseClient.GenericExecuteSpec spec = roomTypeId != null
+            ? databaseClient.sql(ROOMS_FREE_FOR_STAY + "AND r.room_type_id = :roomTypeId " + ORDER_BY_FLOOR)
+                .bind("roomTypeId", roomTypeId)
+            : databaseClient.sql(ROOMS_FREE_FOR_STAY + ORDER_BY_FLOOR);
+
+        return spec.bind("checkIn", checkIn)
+            .bind("checkOut", checkOut)
+            .filter(statement -> statement.fetchSize(FETCH_SIZE))
+            .map(row -> ReservationDto.AvailableRoom.builder()
+                .roomId(row.get("id", Long.class))
+                .roomNumber(row.get("room_number", String.class))
+                .roomTypeId(row.get("room_type_id", Long.class))
+                .floor(row.get("floor", Integer.class))
+                .build())
+            .all();
+    }
+
+    /**
+     * Whether a room type is active; empty if it does not exist
+     */
+    public Mono<Boolean> isRoomTypeActive(Long roomTypeId) {
+        return databaseClient.sql("SELECT is_active FROM room_types WHERE id = :id")
+            .bind("id", roomTypeId)
+            .map(row -> Boolean.TRUE.equals(row.get("is_active", Boolean.class)))
+            .first();
+    }
+
+    /**
+     * Same values as the servlet API's RoomMapper.toListItem
+     */
+    private RoomDto.ListItem toListItem(Readable row) {
+        String roomNumber = row.get("room_number", String.class);
+        Integer floor = row.get("floor", Integer.class);
+        BigDecimal basePrice = row.get("base_price", BigDecimal.class);
+
+        return RoomDto.ListItem.builder()
+            .id(row.get("id", Long.class))
+            .roomNumber(roomNumber)
+            .floor(floor)
+            .status(RoomStatus.valueOf(row.get("status", String.class)))
+            .viewType(row.get("view_type", String.class))
+            .hasBalcony(row.get("has_balcony", Boolean.class))
+            .isActive(row.get("is_active", Boolean.class))
+            .roomTypeName(row.get("room_type_name", String.class))
+            .currentPrice(basePrice != null ? basePrice : BigDecimal.ZERO)
+            .displayName(String.format("Room %s (Floor %d)", roomNumber, floor))
+            .build();
+    }
+}
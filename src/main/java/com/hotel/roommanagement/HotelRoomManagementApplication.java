@@ -2,7 +2,9 @@ package com.hotel.roommanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Hotel Room Management System Application
@@ -12,13 +14,15 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * - Room Type Management (CRUD operations)
  * - Room Management (CRUD operations with advanced filtering)
  * - Room Status Management
- * - Room Statistics and Reporting
+ * - Room Statistics and Reporting (served from live in-memory counters)
  * 
  * @author Hotel Management Team
  * @version 1.0.0
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableCaching
+@EnableScheduling
 public class HotelRoomManagementApplication {
 
     public static void main(String[] args) {
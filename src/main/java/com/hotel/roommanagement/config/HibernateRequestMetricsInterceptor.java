@@ -0,0 +1,74 @@
+package com.hotel.roommanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the Hibernate work of each request as distribution summaries
+ * tagged with the HTTP method and URI template:
+ * hibernate.request.statements, hibernate.request.entity.loads and
+ * hibernate.request.collection.fetches. Requests issuing more statements
+ * than the configured threshold are logged, which points at endpoints
+ * triggering lazy-load storms.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class HibernateRequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementWarnThreshold;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HibernateRequestStatistics.start();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The response is produced on another thread, where nothing is counted
+        HibernateRequestStatistics.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        HibernateRequestStatistics.Counters counters = HibernateRequestStatistics.stop();
+        if (counters == null) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        record("hibernate.request.statements", "SQL statements executed per request", method, uri,
+            counters.getStatements());
+        record("hibernate.request.entity.loads", "Entities loaded per request", method, uri,
+            counters.getEntityLoads());
+        record("hibernate.request.collection.fetches", "Lazy collections initialized per request", method, uri,
+            counters.getCollectionFetches());
+
+        if (counters.getStatements() > statementWarnThreshold) {
+            log.warn("{} {} executed {} SQL statements ({} entity loads, {} collection fetches)",
+                method, uri, counters.getStatements(), counters.getEntityLoads(), counters.getCollectionFetches());
+        }
+    }
+
+    private void record(String name, String description, String method, String uri, long value) {
+        DistributionSummary.builder(name)
+            .description(description)
+            .tag("method", method)
+            .tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(value);
+    }
+}
@@ -0,0 +1,107 @@
+package com.hotel.roommanagement.config;
+
+import lombok.Getter;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Per-request Hibernate work counters
+ *
+ * Hibernate's own statistics are global, so concurrent requests cannot be
+ * told apart. These counters are bound to the request thread: SQL
+ * statements are counted by a statement inspector, entity loads and lazy
+ * collection initializations by event listeners registered through an
+ * integrator. Work done on other threads (async responses, scheduled
+ * jobs) is not counted.
+ */
+public final class HibernateRequestStatistics {
+
+    private static final ThreadLocal<Counters> CURRENT = new ThreadLocal<>();
+
+    private HibernateRequestStatistics() {
+    }
+
+    /**
+     * Start counting for the current thread
+     */
+    public static void start() {
+        CURRENT.set(new Counters());
+    }
+
+    /**
+     * Stop counting for the current thread and return what was counted, or null if not started
+     */
+    public static Counters stop() {
+        Counters counters = CURRENT.get();
+        CURRENT.remove();
+        return counters;
+    }
+
+    /**
+     * Counts every SQL statement prepared on a counting thread
+     */
+    public static class CountingStatementInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            Counters counters = CURRENT.get();
+            if (counters != null) {
+                counters.statements++;
+            }
+            return sql;
+        }
+    }
+
+    /**
+     * Registers the entity load and collection fetch listeners
+     */
+    public static class CountingIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) CountingIntegrator::onPostLoad);
+            registry.appendListeners(EventType.INIT_COLLECTION,
+                (InitializeCollectionEventListener) CountingIntegrator::onInitializeCollection);
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+
+        private static void onPostLoad(PostLoadEvent event) {
+            Counters counters = CURRENT.get();
+            if (counters != null) {
+                counters.entityLoads++;
+            }
+        }
+
+        private static void onInitializeCollection(InitializeCollectionEvent event) {
+            Counters counters = CURRENT.get();
+            if (counters != null) {
+                counters.collectionFetches++;
+            }
+        }
+    }
+
+    /**
+     * Hibernate work done by one request
+     */
+    @Getter
+    public static class Counters {
+        private long statements;
+        private long entityLoads;
+        private long collectionFetches;
+    }
+}
@@ -0,0 +1,57 @@
+package com.hotel.roommanagement.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Metrics configuration
+ *
+ * Enables {@code @Timed} on service classes and wires the per-request
+ * Hibernate counters into Hibernate and Spring MVC. Global Hibernate,
+ * HikariCP and HTTP metrics come from Spring Boot auto-configuration.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    /**
+     * Hibernate setting naming an {@link IntegratorProvider}
+     */
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.metrics.hibernate.statement-warn-threshold:25}")
+    private int statementWarnThreshold;
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new HibernateRequestStatistics.CountingStatementInspector());
+            properties.put(INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new HibernateRequestStatistics.CountingIntegrator()));
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HibernateRequestMetricsInterceptor(meterRegistry, statementWarnThreshold))
+            .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,76 @@
+package com.hotel.roommanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Virtual thread mode
+ *
+ * Active with {@code spring.threads.virtual.enabled=true} on Java 21 or
+ * later. Spring Boot then runs Tomcat request handling, async MVC work
+ * (such as the room export), {@code @Scheduled} tasks and the application
+ * task executor on virtual threads.
+ *
+ * Request concurrency is then no longer bounded by Tomcat's thread pool,
+ * so the data source is wrapped in a {@link ConnectionLimitingDataSource}
+ * with one permit per pooled connection by default: excess requests queue
+ * in arrival order in front of HikariCP instead of all contending inside
+ * it and running into its connection timeout.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    /**
+     * HikariCP's pool size when maximum-pool-size is not set
+     */
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${app.datasource.connection-limit:0}") int connectionLimit,
+            @Value("${app.datasource.connection-acquire-timeout:PT30S}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                // Unset until the pool starts; Hikari then applies the same default
+                int poolSize = hikari.getMaximumPoolSize() > 0
+                    ? hikari.getMaximumPoolSize()
+                    : Math.max(HIKARI_DEFAULT_POOL_SIZE, hikari.getMinimumIdle());
+                int limit = connectionLimit > 0 ? connectionLimit : poolSize;
+                log.info("Virtual threads enabled: at most {} concurrent database connections (pool size {})",
+                    limit, poolSize);
+                return new ConnectionLimitingDataSource(hikari, limit, acquireTimeout);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limiter) {
+                Gauge.builder("hotel.datasource.permits.available", limiter, ConnectionLimitingDataSource::getAvailablePermits)
+                    .description("Database connection permits not in use")
+                    .register(registry);
+                Gauge.builder("hotel.datasource.permits.waiting", limiter, ConnectionLimitingDataSource::getWaitingThreads)
+                    .description("Threads waiting for a database connection permit")
+                    .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.hotel.roommanagement.controller;
+
+import com.hotel.roommanagement.dto.AmenityDto;
+import com.hotel.roommanagement.service.AmenityCatalog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for the amenity catalog
+ * 
+ * Amenities are added to the catalog automatically when room types
+ * reference them; this controller exposes the catalog read-only.
+ */
+@RestController
+@RequestMapping("/api/v1/amenities")
+@RequiredArgsConstructor
+@Tag(name = "Amenities", description = "Amenity catalog")
+public class AmenityController {
+
+    private final AmenityCatalog amenityCatalog;
+
+    @Operation(summary = "Get amenity catalog", description = "Retrieve all known amenities with usage counts")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved amenities")
+    @GetMapping
+    public ResponseEntity<List<AmenityDto.Response>> getAmenities() {
+        List<AmenityDto.Response> amenities = amenityCatalog.getCatalog().stream()
+            .map(usage -> AmenityDto.Response.builder()
+                .id(usage.getAmenity().getId())
+                .name(usage.getAmenity().getName())
+                .bitIndex(usage.getAmenity().getBitIndex())
+                .roomTypeCount(usage.getRoomTypeCount())
+                .build())
+            .toList();
+        return ResponseEntity.ok(amenities);
+    }
+}
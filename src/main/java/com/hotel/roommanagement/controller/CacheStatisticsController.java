@@ -0,0 +1,32 @@
+package com.hotel.roommanagement.controller;
+
+import com.hotel.roommanagement.dto.CacheStatisticsDto;
+import com.hotel.roommanagement.service.CacheStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for cache statistics
+ */
+@RestController
+@RequestMapping("/api/v1/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Cache monitoring operations")
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @Operation(summary = "Get cache statistics", description = "Get second-level and query cache hit/miss ratios")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved cache statistics")
+    @GetMapping("/statistics")
+    public ResponseEntity<CacheStatisticsDto.Response> getCacheStatistics() {
+        CacheStatisticsDto.Response statistics = cacheStatisticsService.getCacheStatistics();
+        return ResponseEntity.ok(statistics);
+    }
+}
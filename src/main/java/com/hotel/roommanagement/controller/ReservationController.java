@@ -0,0 +1,103 @@
+package com.hotel.roommanagement.controller;
+
+import com.hotel.roommanagement.dto.ReservationDto;
+import com.hotel.roommanagement.service.ReservationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for Reservation operations
+ * 
+ * Provides endpoints for booking rooms over date ranges, cancelling
+ * bookings and searching room availability.
+ */
+@RestController
+@RequestMapping("/api/v1/reservations")
+@RequiredArgsConstructor
+@Tag(name = "Reservations", description = "Room reservation and availability operations")
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    @Operation(summary = "Search availability", description = "Find rooms free for every night between check-in and check-out")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved available rooms"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<ReservationDto.AvailabilityResponse> getAvailability(
+            @Parameter(description = "Check-in date (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @Parameter(description = "Check-out date (yyyy-MM-dd), exclusive") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+            @Parameter(description = "Room type ID") @RequestParam(required = false) Long roomTypeId) {
+        
+        ReservationDto.AvailabilityResponse availability = reservationService.getAvailability(roomTypeId, checkIn, checkOut);
+        return ResponseEntity.ok(availability);
+    }
+
+    @Operation(summary = "Get reservation by ID", description = "Retrieve a specific reservation by its ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved reservation"),
+        @ApiResponse(responseCode = "404", description = "Reservation not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ReservationDto.Response> getReservationById(
+            @Parameter(description = "Reservation ID") @PathVariable Long id) {
+        
+        ReservationDto.Response reservation = reservationService.getReservationById(id);
+        return ResponseEntity.ok(reservation);
+    }
+
+    @Operation(summary = "Get upcoming reservations of a room", description = "Retrieve confirmed reservations of a room that have not ended")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved reservations"),
+        @ApiResponse(responseCode = "404", description = "Room not found")
+    })
+    @GetMapping("/room/{roomId}")
+    public ResponseEntity<List<ReservationDto.Response>> getUpcomingReservations(
+            @Parameter(description = "Room ID") @PathVariable Long roomId) {
+        
+        List<ReservationDto.Response> reservations = reservationService.getUpcomingReservations(roomId);
+        return ResponseEntity.ok(reservations);
+    }
+
+    @Operation(summary = "Create reservation", description = "Book a room for a date range")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Reservation created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data or room cannot be reserved"),
+        @ApiResponse(responseCode = "404", description = "Room not found"),
+        @ApiResponse(responseCode = "409", description = "Room is already booked for some of the nights")
+    })
+    @PostMapping
+    public ResponseEntity<ReservationDto.Response> createReservation(
+            @Valid @RequestBody ReservationDto.CreateRequest request) {
+        
+        ReservationDto.Response createdReservation = reservationService.createReservation(request);
+        return new ResponseEntity<>(createdReservation, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Cancel reservation", description = "Cancel a reservation and release its nights")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reservation cancelled successfully"),
+        @ApiResponse(responseCode = "400", description = "Reservation is already cancelled"),
+        @ApiResponse(responseCode = "404", description = "Reservation not found")
+    })
+    @PatchMapping("/{id}/cancel")
+    public ResponseEntity<ReservationDto.Response> cancelReservation(
+            @Parameter(description = "Reservation ID") @PathVariable Long id) {
+        
+        ReservationDto.Response reservation = reservationService.cancelReservation(id);
+        return ResponseEntity.ok(reservation);
+    }
+}
@@ -0,0 +1,44 @@
+package com.hotel.roommanagement.controller;
+
+import com.hotel.roommanagement.dto.RoomAssignmentDto;
+import com.hotel.roommanagement.service.RoomAssignmentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for automatic room assignment
+ * 
+ * Proposes rooms for a batch of arrivals based on their preferences.
+ * Room statuses are not changed.
+ */
+@RestController
+@RequestMapping("/api/v1/rooms")
+@RequiredArgsConstructor
+@Tag(name = "Rooms", description = "Room management operations")
+public class RoomAssignmentController {
+
+    private final RoomAssignmentService roomAssignmentService;
+
+    @Operation(summary = "Assign rooms", 
+               description = "Assign available rooms to a batch of arrivals by view type, balcony and floor preferences")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rooms assigned; arrivals without a free room have no room ID"),
+        @ApiResponse(responseCode = "400", description = "Invalid arrivals or batch too large")
+    })
+    @PostMapping("/assignments")
+    public ResponseEntity<RoomAssignmentDto.Response> assignRooms(
+            @Valid @RequestBody RoomAssignmentDto.Request request) {
+        
+        RoomAssignmentDto.Response response = roomAssignmentService.assignRooms(request.getArrivals());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,7 +1,10 @@
 package com.hotel.roommanagement.controller;
 
 import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.enums.ExportFormat;
 import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.service.RoomEventBroadcaster;
+import com.hotel.roommanagement.service.RoomExportService;
 import com.hotel.roommanagement.service.RoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,9 +16,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -32,6 +40,8 @@ import java.util.List;
 public class RoomController {
 
     private final RoomService roomService;
+    private final RoomExportService roomExportService;
+    private final RoomEventBroadcaster roomEventBroadcaster;
 
     @Operation(summary = "Get all rooms", description = "Retrieve all rooms with pagination")
     @ApiResponses(value = {
@@ -40,18 +50,76 @@ public class RoomController {
     })
     @GetMapping
     public ResponseEntity<Page<RoomDto.Response>> getAllRooms(
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            WebRequest request) {
+        
+        String etag = roomService.getRoomsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
         Page<RoomDto.Response> rooms = roomService.getAllRooms(pageable);
+        return ResponseEntity.ok().eTag(etag).body(rooms);
+    }
+
+    @Operation(summary = "Get rooms by cursor", 
+               description = "Retrieve rooms with keyset pagination ordered by floor, room number and ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved rooms"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<RoomDto.CursorPage> getRoomsByCursor(
+            @Parameter(description = "Cursor from the previous page; omit for the first page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Also return the total number of rooms") 
+            @RequestParam(defaultValue = "false") boolean includeCount) {
+        
+        RoomDto.CursorPage rooms = roomService.getRoomsAfter(cursor, size, includeCount);
         return ResponseEntity.ok(rooms);
     }
 
     @Operation(summary = "Get active rooms", description = "Retrieve all active rooms")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved active rooms")
     @GetMapping("/active")
-    public ResponseEntity<List<RoomDto.ListItem>> getActiveRooms() {
+    public ResponseEntity<List<RoomDto.ListItem>> getActiveRooms(WebRequest request) {
+        String etag = roomService.getRoomsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        
         List<RoomDto.ListItem> rooms = roomService.getActiveRooms();
-        return ResponseEntity.ok(rooms);
+        return ResponseEntity.ok().eTag(etag).body(rooms);
+    }
+
+    @Operation(summary = "Export rooms", 
+               description = "Stream the room inventory as newline-delimited JSON or CSV")
+    @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRooms(
+            @Parameter(description = "Output format") @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @Parameter(description = "Include inactive rooms") @RequestParam(defaultValue = "false") boolean includeInactive) {
+        
+        StreamingResponseBody body = outputStream -> 
+            roomExportService.exportRooms(format, includeInactive, outputStream);
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"rooms." + format.getFileExtension() + "\"")
+            .body(body);
+    }
+
+    @Operation(summary = "Stream room changes", 
+               description = "Server-Sent Events stream of committed room changes. Reconnecting clients resume " +
+                   "after Last-Event-ID; a 'resync' event means events were missed and listings should be reloaded")
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRoomEvents(
+            @Parameter(description = "ID of the last event received, sent by EventSource on reconnect") 
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        
+        return roomEventBroadcaster.subscribe(lastEventId);
     }
 
     @Operation(summary = "Get room by ID", description = "Retrieve a specific room by its ID")
@@ -61,10 +129,16 @@ public class RoomController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<RoomDto.Response> getRoomById(
-            @Parameter(description = "Room ID") @PathVariable Long id) {
+            @Parameter(description = "Room ID") @PathVariable Long id,
+            WebRequest request) {
+        
+        String etag = roomService.getRoomETag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
         RoomDto.Response room = roomService.getRoomById(id);
-        return ResponseEntity.ok(room);
+        return ResponseEntity.ok().eTag(etag).body(room);
     }
 
     @Operation(summary = "Get room by number", description = "Retrieve a specific room by its room number")
@@ -74,10 +148,16 @@ public class RoomController {
     })
     @GetMapping("/number/{roomNumber}")
     public ResponseEntity<RoomDto.Response> getRoomByNumber(
-            @Parameter(description = "Room number") @PathVariable String roomNumber) {
+            @Parameter(description = "Room number") @PathVariable String roomNumber,
+            WebRequest request) {
+        
+        String etag = roomService.getRoomETagByNumber(roomNumber);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
         RoomDto.Response room = roomService.getRoomByNumber(roomNumber);
-        return ResponseEntity.ok(room);
+        return ResponseEntity.ok().eTag(etag).body(room);
     }
 
     @Operation(summary = "Create room", description = "Create a new room")
@@ -125,6 +205,20 @@ public class RoomController {
         return ResponseEntity.ok(updatedRoom);
     }
 
+    @Operation(summary = "Batch update room status",
+               description = "Update the status of many rooms in one transaction with per-item results")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    @PatchMapping("/status:batch")
+    public ResponseEntity<RoomDto.BatchStatusUpdateResponse> updateRoomStatuses(
+            @Valid @RequestBody RoomDto.BatchStatusUpdateRequest request) {
+        
+        RoomDto.BatchStatusUpdateResponse response = roomService.updateRoomStatuses(request);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Delete room", description = "Delete a room (soft delete)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Room deleted successfully"),
@@ -150,12 +244,36 @@ public class RoomController {
         return ResponseEntity.ok(rooms);
     }
 
+    @Operation(summary = "Search rooms by cursor", 
+               description = "Search rooms with filters and keyset pagination ordered by floor, room number and ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved search results"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @PostMapping("/search/scroll")
+    public ResponseEntity<RoomDto.CursorPage> searchRoomsByCursor(
+            @RequestBody RoomDto.FilterRequest filters,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Also return the total number of matching rooms") 
+            @RequestParam(defaultValue = "false") boolean includeCount) {
+        
+        RoomDto.CursorPage rooms = roomService.searchRoomsAfter(filters, cursor, size, includeCount);
+        return ResponseEntity.ok(rooms);
+    }
+
     @Operation(summary = "Get available rooms", description = "Get all available rooms")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved available rooms")
     @GetMapping("/available")
-    public ResponseEntity<List<RoomDto.ListItem>> getAvailableRooms() {
+    public ResponseEntity<List<RoomDto.ListItem>> getAvailableRooms(WebRequest request) {
+        String etag = roomService.getRoomsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        
         List<RoomDto.ListItem> rooms = roomService.getAvailableRooms();
-        return ResponseEntity.ok(rooms);
+        return ResponseEntity.ok().eTag(etag).body(rooms);
     }
 
     @Operation(summary = "Get available rooms by type", description = "Get available rooms of a specific type")
@@ -165,30 +283,48 @@ public class RoomController {
     })
     @GetMapping("/available/type/{roomTypeId}")
     public ResponseEntity<List<RoomDto.ListItem>> getAvailableRoomsByType(
-            @Parameter(description = "Room type ID") @PathVariable Long roomTypeId) {
+            @Parameter(description = "Room type ID") @PathVariable Long roomTypeId,
+            WebRequest request) {
+        
+        String etag = roomService.getRoomsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
         List<RoomDto.ListItem> rooms = roomService.getAvailableRoomsByType(roomTypeId);
-        return ResponseEntity.ok(rooms);
+        return ResponseEntity.ok().eTag(etag).body(rooms);
     }
 
     @Operation(summary = "Get rooms by status", description = "Get rooms filtered by status")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved rooms by status")
     @GetMapping("/status/{status}")
     public ResponseEntity<List<RoomDto.ListItem>> getRoomsByStatus(
-            @Parameter(description = "Room status") @PathVariable RoomStatus status) {
+            @Parameter(description = "Room status") @PathVariable RoomStatus status,
+            WebRequest request) {
+        
+        String etag = roomService.getRoomsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
         List<RoomDto.ListItem> rooms = roomService.getRoomsByStatus(status);
-        return ResponseEntity.ok(rooms);
+        return ResponseEntity.ok().eTag(etag).body(rooms);
     }
 
     @Operation(summary = "Get rooms by floor", description = "Get rooms on a specific floor")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved rooms by floor")
     @GetMapping("/floor/{floor}")
     public ResponseEntity<List<RoomDto.ListItem>> getRoomsByFloor(
-            @Parameter(description = "Floor number") @PathVariable Integer floor) {
+            @Parameter(description = "Floor number") @PathVariable Integer floor,
+            WebRequest request) {
+        
+        String etag = roomService.getRoomsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
         List<RoomDto.ListItem> rooms = roomService.getRoomsByFloor(floor);
-        return ResponseEntity.ok(rooms);
+        return ResponseEntity.ok().eTag(etag).body(rooms);
     }
 
     @Operation(summary = "Get rooms needing maintenance", description = "Get rooms that need maintenance")
@@ -0,0 +1,61 @@
+package com.hotel.roommanagement.controller;
+
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.service.RoomImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for bulk room imports
+ * 
+ * Accepts a JSON array of room creation requests or a CSV file
+ * with a header row. Imports are validated as a whole and either
+ * all rooms are created or none are.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Rooms", description = "Room management operations")
+public class RoomImportController {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final RoomImportService roomImportService;
+
+    @Operation(summary = "Bulk create rooms", description = "Create many rooms from a JSON array in one transaction")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Rooms created successfully"),
+        @ApiResponse(responseCode = "400", description = "One or more rows are invalid; nothing was created")
+    })
+    @PostMapping(value = "/rooms:bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<RoomDto.BulkImportResponse> importRooms(
+            @RequestBody List<RoomDto.CreateRequest> requests) {
+        
+        RoomDto.BulkImportResponse response = roomImportService.importRooms(requests);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Bulk create rooms from CSV", 
+               description = "Create many rooms from CSV with a header row in one transaction")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Rooms created successfully"),
+        @ApiResponse(responseCode = "400", description = "One or more rows are invalid; nothing was created")
+    })
+    @PostMapping(value = "/rooms:bulk", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<RoomDto.BulkImportResponse> importRoomsFromCsv(@RequestBody String csv) {
+        RoomDto.BulkImportResponse response = roomImportService.importRoomsFromCsv(csv);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -40,18 +41,29 @@ public class RoomTypeController {
     })
     @GetMapping
     public ResponseEntity<Page<RoomTypeDto.Response>> getAllRoomTypes(
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            WebRequest request) {
+        
+        String etag = roomTypeService.getRoomTypesETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
         Page<RoomTypeDto.Response> roomTypes = roomTypeService.getAllRoomTypes(pageable);
-        return ResponseEntity.ok(roomTypes);
+        return ResponseEntity.ok().eTag(etag).body(roomTypes);
     }
 
     @Operation(summary = "Get active room types", description = "Retrieve all active room types")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved active room types")
     @GetMapping("/active")
-    public ResponseEntity<List<RoomTypeDto.ListItem>> getActiveRoomTypes() {
+    public ResponseEntity<List<RoomTypeDto.ListItem>> getActiveRoomTypes(WebRequest request) {
+        String etag = roomTypeService.getRoomTypesETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        
         List<RoomTypeDto.ListItem> roomTypes = roomTypeService.getActiveRoomTypes();
-        return ResponseEntity.ok(roomTypes);
+        return ResponseEntity.ok().eTag(etag).body(roomTypes);
     }
 
     @Operation(summary = "Get room type by ID", description = "Retrieve a specific room type by its ID")
@@ -61,10 +73,16 @@ public class RoomTypeController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<RoomTypeDto.Response> getRoomTypeById(
-            @Parameter(description = "Room type ID") @PathVariable Long id) {
+            @Parameter(description = "Room type ID") @PathVariable Long id,
+            WebRequest request) {
+        
+        String etag = roomTypeService.getRoomTypeETag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
         RoomTypeDto.Response roomType = roomTypeService.getRoomTypeById(id);
-        return ResponseEntity.ok(roomType);
+        return ResponseEntity.ok().eTag(etag).body(roomType);
     }
 
     @Operation(summary = "Create room type", description = "Create a new room type")
@@ -146,9 +164,14 @@ public class RoomTypeController {
     @Operation(summary = "Get room types with available rooms", description = "Get room types that have available rooms")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved room types with available rooms")
     @GetMapping("/available")
-    public ResponseEntity<List<RoomTypeDto.ListItem>> getRoomTypesWithAvailableRooms() {
+    public ResponseEntity<List<RoomTypeDto.ListItem>> getRoomTypesWithAvailableRooms(WebRequest request) {
+        String etag = roomTypeService.getRoomTypesETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        
         List<RoomTypeDto.ListItem> roomTypes = roomTypeService.getRoomTypesWithAvailableRooms();
-        return ResponseEntity.ok(roomTypes);
+        return ResponseEntity.ok().eTag(etag).body(roomTypes);
     }
 
     @Operation(summary = "Toggle room type status", description = "Activate or deactivate a room type")
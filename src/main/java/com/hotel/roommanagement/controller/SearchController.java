@@ -0,0 +1,44 @@
+package com.hotel.roommanagement.controller;
+
+import com.hotel.roommanagement.dto.SearchDto;
+import com.hotel.roommanagement.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for full-text search
+ * 
+ * Searches rooms and room types through the in-memory search index.
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Full-text search across rooms and room types")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(summary = "Full-text search", 
+               description = "Search room numbers, room notes, and room type names, descriptions and amenities")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved search results"),
+        @ApiResponse(responseCode = "400", description = "Missing query or invalid limit")
+    })
+    @GetMapping
+    public ResponseEntity<SearchDto.Response> search(
+            @Parameter(description = "Search terms; all terms must match") @RequestParam String q,
+            @Parameter(description = "Maximum number of hits (1-100)") @RequestParam(defaultValue = "20") int limit) {
+        
+        SearchDto.Response results = searchService.search(q, limit);
+        return ResponseEntity.ok(results);
+    }
+}
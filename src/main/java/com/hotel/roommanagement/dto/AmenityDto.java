@@ -0,0 +1,36 @@
+package com.hotel.roommanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Amenity Data Transfer Objects
+ */
+public class AmenityDto {
+
+    /**
+     * DTO for amenity catalog entries
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Amenity catalog entry")
+    public static class Response {
+        
+        @Schema(description = "Amenity ID", example = "1")
+        private Long id;
+
+        @Schema(description = "Amenity name", example = "Jacuzzi")
+        private String name;
+
+        @Schema(description = "Bit of the amenity in room type amenity masks", example = "8")
+        private Integer bitIndex;
+
+        @Schema(description = "Number of room types offering this amenity", example = "1")
+        private Long roomTypeCount;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hotel.roommanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Cache Statistics Data Transfer Objects
+ */
+public class CacheStatisticsDto {
+
+    /**
+     * DTO for overall cache statistics
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Cache statistics")
+    public static class Response {
+
+        @Schema(description = "Second-level cache hit count", example = "1250")
+        private Long secondLevelCacheHits;
+
+        @Schema(description = "Second-level cache miss count", example = "12")
+        private Long secondLevelCacheMisses;
+
+        @Schema(description = "Second-level cache hit ratio (0-1)", example = "0.99")
+        private Double secondLevelCacheHitRatio;
+
+        @Schema(description = "Query cache hit count", example = "480")
+        private Long queryCacheHits;
+
+        @Schema(description = "Query cache miss count", example = "3")
+        private Long queryCacheMisses;
+
+        @Schema(description = "Query cache hit ratio (0-1)", example = "0.99")
+        private Double queryCacheHitRatio;
+
+        @Schema(description = "Per-region statistics")
+        private List<Region> regions;
+    }
+
+    /**
+     * DTO for a single cache region
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Cache region statistics")
+    public static class Region {
+
+        @Schema(description = "Region name", example = "roomTypes")
+        private String regionName;
+
+        @Schema(description = "Hit count", example = "1250")
+        private Long hits;
+
+        @Schema(description = "Miss count", example = "12")
+        private Long misses;
+
+        @Schema(description = "Put count", example = "4")
+        private Long puts;
+
+        @Schema(description = "Hit ratio (0-1)", example = "0.99")
+        private Double hitRatio;
+    }
+}
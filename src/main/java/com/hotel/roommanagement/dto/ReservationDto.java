@@ -0,0 +1,168 @@
+package com.hotel.roommanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.hotel.roommanagement.enums.ReservationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reservation Data Transfer Objects
+ */
+public class ReservationDto {
+
+    /**
+     * DTO for creating a new reservation
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Reservation creation request")
+    public static class CreateRequest {
+        
+        @Schema(description = "Room ID; omit to book any free room of the room type", example = "1")
+        private Long roomId;
+
+        @Schema(description = "Room type ID; used when no room ID is given", example = "2")
+        private Long roomTypeId;
+
+        @Schema(description = "Guest name", example = "Jane Doe", required = true)
+        @NotBlank(message = "Guest name is required")
+        @Size(max = 100, message = "Guest name cannot exceed 100 characters")
+        private String guestName;
+
+        @Schema(description = "Guest email", example = "jane.doe@example.com")
+        @Email(message = "Guest email must be a valid email address")
+        @Size(max = 150, message = "Guest email cannot exceed 150 characters")
+        private String guestEmail;
+
+        @Schema(description = "Number of guests", example = "2", required = true)
+        @NotNull(message = "Number of guests is required")
+        @Min(value = 1, message = "Number of guests must be at least 1")
+        private Integer numberOfGuests;
+
+        @Schema(description = "Check-in date", example = "2024-06-01", required = true)
+        @NotNull(message = "Check-in date is required")
+        private LocalDate checkIn;
+
+        @Schema(description = "Check-out date (exclusive)", example = "2024-06-04", required = true)
+        @NotNull(message = "Check-out date is required")
+        private LocalDate checkOut;
+
+        @Schema(description = "Special requests", example = "Late arrival")
+        @Size(max = 500, message = "Notes cannot exceed 500 characters")
+        private String notes;
+    }
+
+    /**
+     * DTO for reservation response
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Reservation response")
+    public static class Response {
+        
+        @Schema(description = "Reservation ID", example = "1")
+        private Long id;
+
+        @Schema(description = "Room ID", example = "1")
+        private Long roomId;
+
+        @Schema(description = "Room number", example = "201")
+        private String roomNumber;
+
+        @Schema(description = "Guest name", example = "Jane Doe")
+        private String guestName;
+
+        @Schema(description = "Guest email", example = "jane.doe@example.com")
+        private String guestEmail;
+
+        @Schema(description = "Number of guests", example = "2")
+        private Integer numberOfGuests;
+
+        @Schema(description = "Check-in date", example = "2024-06-01")
+        private LocalDate checkIn;
+
+        @Schema(description = "Check-out date (exclusive)", example = "2024-06-04")
+        private LocalDate checkOut;
+
+        @Schema(description = "Number of nights", example = "3")
+        private Long nights;
+
+        @Schema(description = "Reservation status", example = "CONFIRMED")
+        private ReservationStatus status;
+
+        @Schema(description = "Special requests", example = "Late arrival")
+        private String notes;
+
+        @Schema(description = "Creation timestamp", example = "2023-12-01T10:30:00")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime createdAt;
+
+        @Schema(description = "Last update timestamp", example = "2023-12-01T10:30:00")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime updatedAt;
+    }
+
+    /**
+     * DTO for rooms free over a date range
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Room availability for a date range")
+    public static class AvailabilityResponse {
+        
+        @Schema(description = "Check-in date", example = "2024-06-01")
+        private LocalDate checkIn;
+
+        @Schema(description = "Check-out date (exclusive)", example = "2024-06-04")
+        private LocalDate checkOut;
+
+        @Schema(description = "Number of nights", example = "3")
+        private Long nights;
+
+        @Schema(description = "Room type filter, if any", example = "2")
+        private Long roomTypeId;
+
+        @Schema(description = "Number of available rooms", example = "4")
+        private Integer totalAvailable;
+
+        @Schema(description = "Available rooms ordered by floor and room number")
+        private List<AvailableRoom> rooms;
+    }
+
+    /**
+     * DTO for a room free over a date range
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Available room")
+    public static class AvailableRoom {
+        
+        @Schema(description = "Room ID", example = "1")
+        private Long roomId;
+
+        @Schema(description = "Room number", example = "201")
+        private String roomNumber;
+
+        @Schema(description = "Room type ID", example = "2")
+        private Long roomTypeId;
+
+        @Schema(description = "Floor number", example = "2")
+        private Integer floor;
+    }
+}
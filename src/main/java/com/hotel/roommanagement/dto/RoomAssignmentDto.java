@@ -0,0 +1,119 @@
+package com.hotel.roommanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Room Assignment Data Transfer Objects
+ */
+public class RoomAssignmentDto {
+
+    /**
+     * DTO for a batch of arrivals to assign rooms to
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Room assignment request")
+    public static class Request {
+        
+        @Schema(description = "Arrivals to assign rooms to", required = true)
+        @NotEmpty(message = "At least one arrival is required")
+        private List<@Valid @NotNull Arrival> arrivals;
+    }
+
+    /**
+     * DTO for an arrival and its room preferences
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Arrival with room preferences")
+    public static class Arrival {
+        
+        @Schema(description = "Caller reference for the arrival", example = "BK-1042", required = true)
+        @NotBlank(message = "Reference is required")
+        @Size(max = 50, message = "Reference cannot exceed 50 characters")
+        private String reference;
+
+        @Schema(description = "Booked room type ID", example = "2", required = true)
+        @NotNull(message = "Room type is required")
+        private Long roomTypeId;
+
+        @Schema(description = "Preferred view type", example = "Sea view")
+        @Size(max = 50, message = "View type cannot exceed 50 characters")
+        private String viewType;
+
+        @Schema(description = "Balcony preference; omit for no preference", example = "true")
+        private Boolean balcony;
+
+        @Schema(description = "Preferred floor", example = "3")
+        @Min(value = 1, message = "Floor must be at least 1")
+        @Max(value = 50, message = "Floor cannot exceed 50")
+        private Integer floor;
+    }
+
+    /**
+     * DTO for the outcome of a room assignment batch
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Room assignment response")
+    public static class Response {
+        
+        @Schema(description = "Number of arrivals assigned a room", example = "1980")
+        private Integer assigned;
+
+        @Schema(description = "Number of arrivals left without a room", example = "20")
+        private Integer unassigned;
+
+        @Schema(description = "Time spent assigning rooms in milliseconds", example = "42")
+        private Long durationMillis;
+
+        @Schema(description = "One result per arrival, in request order")
+        private List<Assignment> assignments;
+    }
+
+    /**
+     * DTO for the room assigned to an arrival
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Room assigned to an arrival")
+    public static class Assignment {
+        
+        @Schema(description = "Caller reference for the arrival", example = "BK-1042")
+        private String reference;
+
+        @Schema(description = "Assigned room ID, or null if no room was free", example = "7")
+        private Long roomId;
+
+        @Schema(description = "Assigned room number", example = "302")
+        private String roomNumber;
+
+        @Schema(description = "Floor of the assigned room", example = "3")
+        private Integer floor;
+
+        @Schema(description = "View type of the assigned room", example = "Sea view")
+        private String viewType;
+
+        @Schema(description = "Whether the assigned room has a balcony", example = "true")
+        private Boolean hasBalcony;
+
+        @Schema(description = "Preference score of the assignment; higher is better", example = "7.0")
+        private Double score;
+    }
+}
@@ -1,8 +1,10 @@
 package com.hotel.roommanagement.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.hotel.roommanagement.enums.RoomChangeType;
 import com.hotel.roommanagement.enums.RoomStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -121,6 +123,118 @@ public class RoomDto {
         private String notes;
     }
 
+    /**
+     * DTO for a batch of room status updates
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Batch room status update request")
+    public static class BatchStatusUpdateRequest {
+        
+        @Schema(description = "Status updates to apply", required = true)
+        @NotEmpty(message = "At least one status update is required")
+        @Size(max = 500, message = "A batch cannot contain more than 500 status updates")
+        private java.util.List<@Valid BatchStatusUpdateItem> items;
+    }
+
+    /**
+     * DTO for a single item of a batch status update
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Batch room status update item")
+    public static class BatchStatusUpdateItem {
+        
+        @Schema(description = "Room ID", example = "1", required = true)
+        @NotNull(message = "Room ID is required")
+        private Long id;
+
+        @Schema(description = "Status the room is expected to have", example = "OCCUPIED", required = true)
+        @NotNull(message = "Expected status is required")
+        private RoomStatus expectedStatus;
+
+        @Schema(description = "New room status", example = "AVAILABLE", required = true)
+        @NotNull(message = "New status is required")
+        private RoomStatus newStatus;
+
+        @Schema(description = "Status change notes", example = "Cleaned after checkout")
+        @Size(max = 1000, message = "Notes cannot exceed 1000 characters")
+        private String notes;
+    }
+
+    /**
+     * DTO for the outcome of a batch status update
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Batch room status update response")
+    public static class BatchStatusUpdateResponse {
+        
+        @Schema(description = "Number of requested updates", example = "200")
+        private Integer requested;
+
+        @Schema(description = "Number of applied updates", example = "198")
+        private Integer updated;
+
+        @Schema(description = "Number of rejected updates", example = "2")
+        private Integer failed;
+
+        @Schema(description = "Per-item results, in request order")
+        private java.util.List<BatchStatusUpdateResult> results;
+    }
+
+    /**
+     * DTO for the outcome of a single batch status update item
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Batch room status update result")
+    public static class BatchStatusUpdateResult {
+        
+        @Schema(description = "Room ID", example = "1")
+        private Long id;
+
+        @Schema(description = "Whether the update was applied", example = "true")
+        private Boolean success;
+
+        @Schema(description = "Room status after processing", example = "AVAILABLE")
+        private RoomStatus status;
+
+        @Schema(description = "Reason the update was rejected", example = "Expected status OCCUPIED but room is AVAILABLE")
+        private String message;
+    }
+
+    /**
+     * DTO for the outcome of a bulk room import
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Bulk room import response")
+    public static class BulkImportResponse {
+        
+        @Schema(description = "Number of rooms created", example = "500")
+        private Integer created;
+
+        @Schema(description = "IDs of the created rooms, in input order")
+        private java.util.List<Long> ids;
+
+        @Schema(description = "Time spent importing in milliseconds", example = "420")
+        private Long durationMillis;
+
+        @Schema(description = "Import throughput in rooms per second", example = "1190.5")
+        private Double roomsPerSecond;
+    }
+
     /**
      * DTO for room response
      */
@@ -224,6 +338,32 @@ public class RoomDto {
         private String displayName;
     }
 
+    /**
+     * DTO for a keyset (cursor) page of rooms
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Cursor-paginated rooms")
+    public static class CursorPage {
+        
+        @Schema(description = "Rooms in this page, ordered by floor, room number and ID")
+        private java.util.List<Response> content;
+
+        @Schema(description = "Requested page size", example = "20")
+        private Integer size;
+
+        @Schema(description = "Whether more rooms follow this page", example = "true")
+        private Boolean hasNext;
+
+        @Schema(description = "Opaque cursor for the next page; absent on the last page", example = "MnwyMDN8OA")
+        private String nextCursor;
+
+        @Schema(description = "Total number of rooms, or of matching rooms for a search; only populated when includeCount=true", example = "520")
+        private Long totalElements;
+    }
+
     /**
      * DTO for room filter parameters
      */
@@ -259,6 +399,9 @@ public class RoomDto {
         @Schema(description = "Maximum price filter", example = "300.00")
         @DecimalMin(value = "0.00", message = "Maximum price cannot be negative")
         private BigDecimal maxPrice;
+
+        @Schema(description = "Amenities the room type must offer (all of them)", example = "[\"Jacuzzi\", \"Balcony\"]")
+        private java.util.List<String> amenities;
     }
 
     /**
@@ -292,6 +435,9 @@ public class RoomDto {
         @Schema(description = "Room type distribution")
         private java.util.List<RoomTypeDistribution> roomTypeDistribution;
 
+        @Schema(description = "Floor distribution")
+        private java.util.List<FloorDistribution> floorDistribution;
+
         @Data
         @NoArgsConstructor
         @AllArgsConstructor
@@ -308,5 +454,61 @@ public class RoomDto {
             @Schema(description = "Percentage of total rooms", example = "25.0")
             private Double percentage;
         }
+
+        @Data
+        @NoArgsConstructor
+        @AllArgsConstructor
+        @Builder
+        @Schema(description = "Floor distribution item")
+        public static class FloorDistribution {
+            
+            @Schema(description = "Floor number", example = "2")
+            private Integer floor;
+
+            @Schema(description = "Number of rooms on this floor", example = "12")
+            private Long count;
+        }
+    }
+
+    /**
+     * DTO for a committed room change pushed to event stream subscribers
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Room change event")
+    public static class Event {
+
+        @Schema(description = "Event ID, increasing in commit order", example = "42")
+        private Long eventId;
+
+        @Schema(description = "Kind of change", example = "STATUS_CHANGED")
+        private RoomChangeType changeType;
+
+        @Schema(description = "Room ID", example = "1")
+        private Long roomId;
+
+        @Schema(description = "Room number", example = "201")
+        private String roomNumber;
+
+        @Schema(description = "Room type ID", example = "1")
+        private Long roomTypeId;
+
+        @Schema(description = "Floor number", example = "2")
+        private Integer floor;
+
+        @Schema(description = "Room status after the change", example = "MAINTENANCE")
+        private RoomStatus status;
+
+        @Schema(description = "Room status before the change; absent for created rooms", example = "AVAILABLE")
+        private RoomStatus previousStatus;
+
+        @Schema(description = "Whether room is active after the change", example = "true")
+        private Boolean isActive;
+
+        @Schema(description = "When the change was committed")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime occurredAt;
     }
 }
\ No newline at end of file
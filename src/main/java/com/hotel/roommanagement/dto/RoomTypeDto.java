@@ -51,7 +51,7 @@ public class RoomTypeDto {
         @Min(value = 1, message = "Room size must be at least 1 square meter")
         private Integer sizeSqm;
 
-        @Schema(description = "JSON string of amenities list", 
+        @Schema(description = "Amenities as a JSON array of names; any other value is rejected with 400", 
                 example = "[\"Air Conditioning\", \"TV\", \"WiFi\", \"Mini Bar\"]")
         private String amenities;
 
@@ -132,7 +132,7 @@ public class RoomTypeDto {
         @Schema(description = "Room size in square meters", example = "35")
         private Integer sizeSqm;
 
-        @Schema(description = "JSON string of amenities list", 
+        @Schema(description = "Amenities as a JSON array of names; any other value is rejected with 400", 
                 example = "[\"Air Conditioning\", \"TV\", \"WiFi\", \"Mini Bar\"]")
         private String amenities;
 
@@ -0,0 +1,67 @@
+package com.hotel.roommanagement.dto;
+
+import com.hotel.roommanagement.enums.SearchDocumentType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-text Search Data Transfer Objects
+ */
+public class SearchDto {
+
+    /**
+     * DTO for search results
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Full-text search response")
+    public static class Response {
+        
+        @Schema(description = "Query as submitted", example = "sea view")
+        private String query;
+
+        @Schema(description = "Total number of matching documents", example = "42")
+        private Integer totalHits;
+
+        @Schema(description = "Time spent searching the index in milliseconds", example = "0.8")
+        private Double tookMillis;
+
+        @Schema(description = "Best matches, highest score first")
+        private List<Hit> hits;
+    }
+
+    /**
+     * DTO for a single search hit
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Full-text search hit")
+    public static class Hit {
+        
+        @Schema(description = "Document type", example = "ROOM")
+        private SearchDocumentType type;
+
+        @Schema(description = "Room or room type ID", example = "6")
+        private Long id;
+
+        @Schema(description = "Display title", example = "Room 201")
+        private String title;
+
+        @Schema(description = "Relevance score", example = "4.5")
+        private Double score;
+
+        @Schema(description = "Matched fields with matches wrapped in <em> tags",
+                example = "{\"notes\": \"Recently renovated with <em>sea</em> view\"}")
+        private Map<String, String> highlights;
+    }
+}
@@ -0,0 +1,48 @@
+package com.hotel.roommanagement.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Amenity Entity
+ * 
+ * Catalog entry for an amenity offered by room types. Each amenity owns
+ * one bit of {@link RoomType#getAmenityMask()}, so the catalog holds at
+ * most {@link #MAX_AMENITIES} entries, as many as the mask column has bits.
+ */
+@Entity
+@Table(name = "amenities")
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Amenity {
+
+    public static final int MAX_AMENITIES = 8192;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "amenity_id_seq")
+    @SequenceGenerator(name = "amenity_id_seq", sequenceName = "amenities_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "name", nullable = false, unique = true, length = 100)
+    @NotBlank(message = "Amenity name is required")
+    @Size(max = 100, message = "Amenity name cannot exceed 100 characters")
+    private String name;
+
+    @Column(name = "bit_index", nullable = false, unique = true)
+    @NotNull(message = "Bit index is required")
+    @Min(value = 0, message = "Bit index must be at least 0")
+    @Max(value = MAX_AMENITIES - 1, message = "Bit index cannot exceed 8191")
+    private Integer bitIndex;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
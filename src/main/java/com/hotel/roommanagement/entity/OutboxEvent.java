@@ -0,0 +1,65 @@
+package com.hotel.roommanagement.entity;
+
+import com.hotel.roommanagement.enums.OutboxAggregateType;
+import com.hotel.roommanagement.enums.RoomChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox Event Entity
+ * 
+ * A room or room type change recorded in the transaction that made it and
+ * relayed to downstream systems afterwards. Entries are relayed in ID
+ * order and marked published; published entries are purged after a
+ * retention period.
+ * 
+ * IDs are drawn from the sequence one at a time after OutboxWriter has
+ * flushed the change, while its room or room type row stays locked until
+ * commit, so the IDs of one aggregate follow commit order on every
+ * application instance. Preallocated ID blocks would let one instance
+ * number a later change below an earlier one from another instance.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_published_id", columnList = "published_at, id")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_id_seq")
+    @SequenceGenerator(name = "outbox_event_id_seq", sequenceName = "outbox_events_seq", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private OutboxAggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private RoomChangeType eventType;
+
+    /**
+     * The change event as JSON
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,117 @@
+package com.hotel.roommanagement.entity;
+
+import com.hotel.roommanagement.enums.ReservationStatus;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Reservation Entity
+ * 
+ * Books a room for the nights from the check-in date up to, but not
+ * including, the check-out date. Confirmed reservations of the same room
+ * never overlap.
+ */
+@Entity
+@Table(name = "reservations", indexes = {
+    @Index(name = "idx_reservations_room_dates", columnList = "room_id, check_in, check_out"),
+    @Index(name = "idx_reservations_status_check_out", columnList = "status, check_out")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(callSuper = false)
+public class Reservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_id_seq")
+    @SequenceGenerator(name = "reservation_id_seq", sequenceName = "reservations_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    @NotNull(message = "Room is required")
+    private Long roomId;
+
+    @Column(name = "guest_name", nullable = false, length = 100)
+    @NotBlank(message = "Guest name is required")
+    @Size(max = 100, message = "Guest name cannot exceed 100 characters")
+    private String guestName;
+
+    @Column(name = "guest_email", length = 150)
+    @Email(message = "Guest email must be a valid email address")
+    @Size(max = 150, message = "Guest email cannot exceed 150 characters")
+    private String guestEmail;
+
+    @Column(name = "number_of_guests", nullable = false)
+    @NotNull(message = "Number of guests is required")
+    @Min(value = 1, message = "Number of guests must be at least 1")
+    private Integer numberOfGuests;
+
+    @Column(name = "check_in", nullable = false)
+    @NotNull(message = "Check-in date is required")
+    private LocalDate checkIn;
+
+    @Column(name = "check_out", nullable = false)
+    @NotNull(message = "Check-out date is required")
+    private LocalDate checkOut;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private ReservationStatus status = ReservationStatus.CONFIRMED;
+
+    @Column(name = "notes", length = 500)
+    @Size(max = 500, message = "Notes cannot exceed 500 characters")
+    private String notes;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Relationships
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", insertable = false, updatable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Room room;
+
+    /**
+     * Number of nights booked
+     */
+    public long getNights() {
+        return ChronoUnit.DAYS.between(checkIn, checkOut);
+    }
+
+    /**
+     * Check if the reservation still holds its room
+     */
+    public boolean isConfirmed() {
+        return ReservationStatus.CONFIRMED.equals(status);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (status == null) {
+            status = ReservationStatus.CONFIRMED;
+        }
+    }
+}
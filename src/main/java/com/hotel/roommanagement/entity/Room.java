@@ -4,6 +4,7 @@ import com.hotel.roommanagement.enums.RoomStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,7 +20,11 @@ import java.time.LocalDateTime;
  * characteristics, status, and maintenance history.
  */
 @Entity
-@Table(name = "rooms")
+@Table(name = "rooms", indexes = {
+    @Index(name = "idx_rooms_updated_at", columnList = "updated_at"),
+    @Index(name = "idx_rooms_floor_room_number", columnList = "floor, room_number, id"),
+    @Index(name = "idx_rooms_status_active_type_floor", columnList = "status, is_active, room_type_id, floor")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
@@ -29,7 +34,8 @@ import java.time.LocalDateTime;
 public class Room {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_id_seq")
+    @SequenceGenerator(name = "room_id_seq", sequenceName = "rooms_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "room_number", nullable = false, unique = true, length = 10)
@@ -75,6 +81,11 @@ public class Room {
     @Builder.Default
     private Boolean isActive = true;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -3,6 +3,9 @@ package com.hotel.roommanagement.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,9 +20,16 @@ import java.util.List;
  * Represents different categories of rooms in the hotel.
  * Each room type defines the characteristics, pricing, and amenities
  * that rooms of this type will have.
+ * 
+ * Room types are reference data that rarely change, so they are kept in
+ * the Hibernate second-level cache.
  */
 @Entity
-@Table(name = "room_types")
+@Table(name = "room_types", indexes = {
+    @Index(name = "idx_room_types_updated_at", columnList = "updated_at")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RoomType.CACHE_REGION)
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
@@ -28,8 +38,11 @@ import java.util.List;
 @EqualsAndHashCode(callSuper = false)
 public class RoomType {
 
+    public static final String CACHE_REGION = "roomTypes";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_type_id_seq")
+    @SequenceGenerator(name = "room_type_id_seq", sequenceName = "room_types_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, unique = true, length = 100)
@@ -60,6 +73,14 @@ public class RoomType {
     @Column(name = "amenities", columnDefinition = "TEXT")
     private String amenities; // JSON string of amenities list
 
+    /**
+     * Amenities as a bitmask over {@link Amenity#getBitIndex()}, derived from the JSON list
+     *
+     * Stored as {@link java.util.BitSet#toByteArray()}; null until the JSON has been parsed.
+     */
+    @Column(name = "amenity_mask", length = Amenity.MAX_AMENITIES / Byte.SIZE)
+    private byte[] amenityMask;
+
     @Column(name = "image_url")
     @Size(max = 255, message = "Image URL cannot exceed 255 characters")
     private String imageUrl;
@@ -68,6 +89,11 @@ public class RoomType {
     @Builder.Default
     private Boolean isActive = true;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -82,29 +108,6 @@ public class RoomType {
     @EqualsAndHashCode.Exclude
     private List<Room> rooms;
 
-    /**
-     * Get the number of rooms of this type
-     */
-    public int getRoomCount() {
-        return rooms != null ? rooms.size() : 0;
-    }
-
-    /**
-     * Get the number of active rooms of this type
-     */
-    public long getActiveRoomCount() {
-        return rooms != null ? 
-            rooms.stream().filter(Room::getIsActive).count() : 0;
-    }
-
-    /**
-     * Check if this room type can be deleted
-     * (no active rooms using this type)
-     */
-    public boolean canBeDeleted() {
-        return getActiveRoomCount() == 0;
-    }
-
     @PrePersist
     protected void onCreate() {
         if (isActive == null) {
@@ -0,0 +1,19 @@
+package com.hotel.roommanagement.enums;
+
+/**
+ * Cache Write Mode Enumeration
+ * 
+ * Defines how cached room listings react to committed room changes.
+ */
+public enum CacheWriteMode {
+
+    /**
+     * Evict affected entries and let the next read reload them
+     */
+    INVALIDATE_ONLY,
+
+    /**
+     * Evict affected entries and immediately reload them so readers never miss
+     */
+    WRITE_THROUGH
+}
@@ -0,0 +1,30 @@
+package com.hotel.roommanagement.enums;
+
+import lombok.Getter;
+
+/**
+ * Export Format Enumeration
+ * 
+ * Defines the output formats supported by the streaming room export.
+ */
+@Getter
+public enum ExportFormat {
+    
+    /**
+     * Newline-delimited JSON, one room per line
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+    
+    /**
+     * Comma-separated values with a header row
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+}
@@ -0,0 +1,19 @@
+package com.hotel.roommanagement.enums;
+
+/**
+ * Outbox Aggregate Type Enumeration
+ * 
+ * Defines the kinds of records whose changes are relayed through the outbox.
+ */
+public enum OutboxAggregateType {
+
+    /**
+     * Change to a room
+     */
+    ROOM,
+
+    /**
+     * Change to a room type
+     */
+    ROOM_TYPE
+}
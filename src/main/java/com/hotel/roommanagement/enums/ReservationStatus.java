@@ -0,0 +1,19 @@
+package com.hotel.roommanagement.enums;
+
+/**
+ * Reservation Status Enumeration
+ * 
+ * Defines the lifecycle states of a room reservation.
+ */
+public enum ReservationStatus {
+
+    /**
+     * Reservation holds its room for the booked nights
+     */
+    CONFIRMED,
+
+    /**
+     * Reservation was cancelled and its nights were released
+     */
+    CANCELLED
+}
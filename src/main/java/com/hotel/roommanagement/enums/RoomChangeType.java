@@ -0,0 +1,34 @@
+package com.hotel.roommanagement.enums;
+
+/**
+ * Room Change Type Enumeration
+ * 
+ * Defines the kinds of mutations that can be applied to a room or room type.
+ */
+public enum RoomChangeType {
+
+    /**
+     * A new room or room type was created
+     */
+    CREATED,
+
+    /**
+     * Room or room type details were updated
+     */
+    UPDATED,
+
+    /**
+     * Room status changed (e.g. AVAILABLE to OCCUPIED)
+     */
+    STATUS_CHANGED,
+
+    /**
+     * Room or room type was activated or deactivated
+     */
+    ACTIVATION_TOGGLED,
+
+    /**
+     * Room or room type was soft deleted
+     */
+    DELETED
+}
@@ -0,0 +1,9 @@
+package com.hotel.roommanagement.enums;
+
+/**
+ * Kinds of documents held in the full-text search index
+ */
+public enum SearchDocumentType {
+    ROOM,
+    ROOM_TYPE
+}
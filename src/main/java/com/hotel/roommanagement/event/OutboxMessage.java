@@ -0,0 +1,38 @@
+package com.hotel.roommanagement.event;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.hotel.roommanagement.entity.OutboxEvent;
+import com.hotel.roommanagement.enums.OutboxAggregateType;
+import com.hotel.roommanagement.enums.RoomChangeType;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox entry handed to an outbox sink
+ * 
+ * Immutable copy of an OutboxEvent, so sinks never hold managed entities.
+ * The payload is already JSON and is embedded as-is when serialized.
+ */
+@Value
+public class OutboxMessage {
+
+    Long id;
+    OutboxAggregateType aggregateType;
+    Long aggregateId;
+    RoomChangeType eventType;
+    @JsonRawValue
+    String payload;
+    LocalDateTime createdAt;
+
+    public static OutboxMessage of(OutboxEvent outboxEvent) {
+        return new OutboxMessage(
+            outboxEvent.getId(),
+            outboxEvent.getAggregateType(),
+            outboxEvent.getAggregateId(),
+            outboxEvent.getEventType(),
+            outboxEvent.getPayload(),
+            outboxEvent.getCreatedAt()
+        );
+    }
+}
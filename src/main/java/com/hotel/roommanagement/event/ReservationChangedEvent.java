@@ -0,0 +1,33 @@
+package com.hotel.roommanagement.event;
+
+import com.hotel.roommanagement.entity.Reservation;
+import com.hotel.roommanagement.enums.ReservationStatus;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Application event published by ReservationService whenever a reservation
+ * is created or cancelled.
+ * 
+ * Carries an immutable snapshot of the reservation after the change.
+ */
+@Value
+public class ReservationChangedEvent {
+
+    Long reservationId;
+    Long roomId;
+    LocalDate checkIn;
+    LocalDate checkOut;
+    ReservationStatus status;
+
+    public static ReservationChangedEvent of(Reservation reservation) {
+        return new ReservationChangedEvent(
+            reservation.getId(),
+            reservation.getRoomId(),
+            reservation.getCheckIn(),
+            reservation.getCheckOut(),
+            reservation.getStatus()
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.hotel.roommanagement.event;
+
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.enums.RoomChangeType;
+import com.hotel.roommanagement.enums.RoomStatus;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * Application event published by RoomService whenever a room is mutated.
+ * 
+ * Carries immutable snapshots of the room before and after the change so
+ * listeners never observe later modifications of the managed entity.
+ * The before snapshot is null for created rooms.
+ */
+@Value
+public class RoomChangedEvent {
+
+    RoomChangeType changeType;
+    RoomState before;
+    RoomState after;
+
+    public static RoomChangedEvent of(RoomChangeType changeType, RoomState before, Room after) {
+        return new RoomChangedEvent(changeType, before, RoomState.of(after));
+    }
+
+    public static RoomChangedEvent of(RoomChangeType changeType, RoomState before, RoomState after) {
+        return new RoomChangedEvent(changeType, before, after);
+    }
+
+    public Long getRoomId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    /**
+     * Immutable view of the room fields relevant to listeners
+     */
+    @Value
+    public static class RoomState {
+
+        Long id;
+        String roomNumber;
+        Long roomTypeId;
+        Integer floor;
+        @With
+        RoomStatus status;
+        boolean active;
+        @With
+        String notes;
+
+        public static RoomState of(Room room) {
+            return new RoomState(
+                room.getId(),
+                room.getRoomNumber(),
+                room.getRoomTypeId(),
+                room.getFloor(),
+                room.getStatus(),
+                Boolean.TRUE.equals(room.getIsActive()),
+                room.getNotes()
+            );
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.hotel.roommanagement.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.hotel.roommanagement.entity.RoomType;
+import com.hotel.roommanagement.enums.RoomChangeType;
+import lombok.Value;
+
+import java.util.BitSet;
+
+/**
+ * Application event published by RoomTypeService whenever a room type is
+ * created, updated, deleted or toggled.
+ * 
+ * Carries an immutable snapshot of the room type after the change. The
+ * amenity mask is a private copy that listeners must not modify; it is
+ * left out of serialized events, as bit indexes are local to the catalog.
+ */
+@Value
+public class RoomTypeChangedEvent {
+
+    RoomChangeType changeType;
+    Long roomTypeId;
+    String name;
+    String description;
+    String amenities;
+    @JsonIgnore
+    BitSet amenityMask;
+    boolean active;
+
+    public static RoomTypeChangedEvent of(RoomChangeType changeType, RoomType roomType) {
+        return new RoomTypeChangedEvent(
+            changeType,
+            roomType.getId(),
+            roomType.getName(),
+            roomType.getDescription(),
+            roomType.getAmenities(),
+            roomType.getAmenityMask() != null ? BitSet.valueOf(roomType.getAmenityMask()) : new BitSet(),
+            Boolean.TRUE.equals(roomType.getIsActive())
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.hotel.roommanagement.exception;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when one or more rows of a bulk request fail validation
+ */
+@Getter
+public class BulkValidationException extends RuntimeException {
+    
+    private final Map<String, String> errors;
+    
+    public BulkValidationException(String message, Map<String, String> errors) {
+        super(message);
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,16 @@
+package com.hotel.roommanagement.exception;
+
+/**
+ * Exception thrown when a resource was modified concurrently and the
+ * update could not be applied within the retry budget
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+    
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+    
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.hotel.roommanagement.exception;
+
+/**
+ * Exception thrown when a reservation overlaps nights already booked for its room
+ */
+public class ReservationConflictException extends RuntimeException {
+    
+    public ReservationConflictException(String message) {
+        super(message);
+    }
+    
+    public ReservationConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
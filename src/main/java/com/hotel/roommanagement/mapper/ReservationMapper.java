@@ -0,0 +1,37 @@
+package com.hotel.roommanagement.mapper;
+
+import com.hotel.roommanagement.dto.ReservationDto;
+import com.hotel.roommanagement.entity.Reservation;
+import org.mapstruct.*;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for Reservation entity and DTOs
+ */
+@Mapper(componentModel = "spring")
+public interface ReservationMapper {
+
+    /**
+     * Convert CreateRequest to Entity
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "room", ignore = true)
+    Reservation toEntity(ReservationDto.CreateRequest request);
+
+    /**
+     * Convert Entity to Response; the room must be loaded
+     */
+    @Mapping(target = "roomNumber", source = "room.roomNumber")
+    @Mapping(target = "nights", expression = "java(reservation.getNights())")
+    ReservationDto.Response toResponse(Reservation reservation);
+
+    /**
+     * Convert list of entities to list of Responses
+     */
+    List<ReservationDto.Response> toResponses(List<Reservation> reservations);
+}
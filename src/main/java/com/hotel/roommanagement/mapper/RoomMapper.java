@@ -18,6 +18,7 @@ public interface RoomMapper {
      * Convert CreateRequest to Entity
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "lastMaintenance", ignore = true)
     @Mapping(target = "isActive", ignore = true)
@@ -27,11 +28,11 @@ public interface RoomMapper {
     Room toEntity(RoomDto.CreateRequest request);
 
     /**
-     * Convert Entity to Response
+     * Convert Entity to Response, taking room type counts from the given context
      */
     @Mapping(target = "currentPrice", expression = "java(room.getCurrentPrice())")
     @Mapping(target = "displayName", expression = "java(room.getDisplayName())")
-    RoomDto.Response toResponse(Room room);
+    RoomDto.Response toResponse(Room room, @Context RoomTypeCounts roomTypeCounts);
 
     /**
      * Convert Entity to ListItem
@@ -50,6 +51,7 @@ public interface RoomMapper {
      * Update entity from UpdateRequest
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "roomType", ignore = true)
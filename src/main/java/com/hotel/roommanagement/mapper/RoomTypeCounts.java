@@ -0,0 +1,48 @@
+package com.hotel.roommanagement.mapper;
+
+import com.hotel.roommanagement.repository.projection.RoomTypeRoomCount;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Precomputed room counts per room type, passed to the mappers as a
+ * MapStruct context so that responses never initialize RoomType.rooms.
+ */
+public final class RoomTypeCounts {
+
+    private static final RoomTypeCounts EMPTY = new RoomTypeCounts(Map.of());
+
+    private final Map<Long, RoomTypeRoomCount> countsByRoomTypeId;
+
+    private RoomTypeCounts(Map<Long, RoomTypeRoomCount> countsByRoomTypeId) {
+        this.countsByRoomTypeId = countsByRoomTypeId;
+    }
+
+    public static RoomTypeCounts empty() {
+        return EMPTY;
+    }
+
+    public static RoomTypeCounts of(Collection<RoomTypeRoomCount> counts) {
+        return new RoomTypeCounts(counts.stream()
+            .collect(Collectors.toMap(RoomTypeRoomCount::getRoomTypeId, Function.identity())));
+    }
+
+    /**
+     * Get the number of rooms of the given type
+     */
+    public int roomCount(Long roomTypeId) {
+        RoomTypeRoomCount count = countsByRoomTypeId.get(roomTypeId);
+        return count != null ? count.getRoomCount().intValue() : 0;
+    }
+
+    /**
+     * Get the number of active rooms of the given type
+     */
+    public long activeRoomCount(Long roomTypeId) {
+        RoomTypeRoomCount count = countsByRoomTypeId.get(roomTypeId);
+        return count != null ? count.getActiveRoomCount() : 0L;
+    }
+}
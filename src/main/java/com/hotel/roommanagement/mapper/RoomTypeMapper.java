@@ -16,6 +16,8 @@ public interface RoomTypeMapper {
      * Convert CreateRequest to Entity
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "amenityMask", ignore = true)
     @Mapping(target = "isActive", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -23,27 +25,29 @@ public interface RoomTypeMapper {
     RoomType toEntity(RoomTypeDto.CreateRequest request);
 
     /**
-     * Convert Entity to Response
+     * Convert Entity to Response using precomputed room counts
      */
-    @Mapping(target = "roomCount", expression = "java(roomType.getRoomCount())")
-    @Mapping(target = "activeRoomCount", expression = "java(roomType.getActiveRoomCount())")
-    RoomTypeDto.Response toResponse(RoomType roomType);
+    @Mapping(target = "roomCount", expression = "java(roomTypeCounts.roomCount(roomType.getId()))")
+    @Mapping(target = "activeRoomCount", expression = "java(roomTypeCounts.activeRoomCount(roomType.getId()))")
+    RoomTypeDto.Response toResponse(RoomType roomType, @Context RoomTypeCounts roomTypeCounts);
 
     /**
-     * Convert Entity to ListItem
+     * Convert Entity to ListItem using precomputed room counts
      */
-    @Mapping(target = "roomCount", expression = "java(roomType.getRoomCount())")
-    RoomTypeDto.ListItem toListItem(RoomType roomType);
+    @Mapping(target = "roomCount", expression = "java(roomTypeCounts.roomCount(roomType.getId()))")
+    RoomTypeDto.ListItem toListItem(RoomType roomType, @Context RoomTypeCounts roomTypeCounts);
 
     /**
      * Convert list of entities to list of ListItems
      */
-    List<RoomTypeDto.ListItem> toListItems(List<RoomType> roomTypes);
+    List<RoomTypeDto.ListItem> toListItems(List<RoomType> roomTypes, @Context RoomTypeCounts roomTypeCounts);
 
     /**
      * Update entity from UpdateRequest
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "amenityMask", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "rooms", ignore = true)
@@ -0,0 +1,19 @@
+package com.hotel.roommanagement.repository;
+
+import com.hotel.roommanagement.entity.Amenity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for Amenity entity
+ */
+@Repository
+public interface AmenityRepository extends JpaRepository<Amenity, Long> {
+
+    /**
+     * Find the whole catalog in bit order
+     */
+    List<Amenity> findAllByOrderByBitIndexAsc();
+}
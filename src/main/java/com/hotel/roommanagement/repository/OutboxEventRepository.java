@@ -0,0 +1,43 @@
+package com.hotel.roommanagement.repository;
+
+import com.hotel.roommanagement.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for OutboxEvent entity
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lock the oldest unpublished entries, so concurrent relays publish one batch at a time and in order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id")
+    List<OutboxEvent> findUnpublishedForUpdate(Pageable pageable);
+
+    /**
+     * Mark entries as published
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * Delete entries published before the given time
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
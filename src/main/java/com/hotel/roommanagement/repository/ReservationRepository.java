@@ -0,0 +1,48 @@
+package com.hotel.roommanagement.repository;
+
+import com.hotel.roommanagement.entity.Reservation;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for Reservation entity
+ */
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    /**
+     * Find reservation by ID with its room loaded
+     */
+    @EntityGraph(attributePaths = "room")
+    Optional<Reservation> findWithRoomById(Long id);
+
+    /**
+     * Check whether a confirmed reservation of the room overlaps the given nights
+     */
+    @Query("SELECT COUNT(r) > 0 FROM Reservation r WHERE r.roomId = :roomId AND r.status = 'CONFIRMED' " +
+           "AND r.checkIn < :checkOut AND r.checkOut > :checkIn")
+    boolean existsOverlapping(@Param("roomId") Long roomId,
+                              @Param("checkIn") LocalDate checkIn,
+                              @Param("checkOut") LocalDate checkOut);
+
+    /**
+     * Confirmed reservations of a room that end after the given date, in date order
+     */
+    @EntityGraph(attributePaths = "room")
+    @Query("SELECT r FROM Reservation r WHERE r.roomId = :roomId AND r.status = 'CONFIRMED' " +
+           "AND r.checkOut > :from ORDER BY r.checkIn")
+    List<Reservation> findUpcomingByRoom(@Param("roomId") Long roomId, @Param("from") LocalDate from);
+
+    /**
+     * Confirmed reservations that end after the given date, used to load the availability index
+     */
+    @Query("SELECT r FROM Reservation r WHERE r.status = 'CONFIRMED' AND r.checkOut > :from")
+    List<Reservation> findConfirmedEndingAfter(@Param("from") LocalDate from);
+}
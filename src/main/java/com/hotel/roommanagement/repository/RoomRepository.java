@@ -2,17 +2,36 @@ package com.hotel.roommanagement.repository;
 
 import com.hotel.roommanagement.entity.Room;
 import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.repository.projection.AssignableRoom;
+import com.hotel.roommanagement.repository.projection.ResourceVersion;
+import com.hotel.roommanagement.repository.projection.RoomCountBucket;
+import com.hotel.roommanagement.repository.projection.RoomFloorCount;
+import com.hotel.roommanagement.repository.projection.RoomStatusCount;
+import com.hotel.roommanagement.repository.projection.RoomStatusSummary;
+import com.hotel.roommanagement.repository.projection.RoomTypeDistributionCount;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Room entity
@@ -21,13 +40,62 @@ import java.util.Optional;
  * including custom queries for business logic.
  */
 @Repository
-public interface RoomRepository extends JpaRepository<Room, Long> {
+public interface RoomRepository extends JpaRepository<Room, Long>, JpaSpecificationExecutor<Room>,
+                                        RoomStatusBatchRepository {
+
+    /**
+     * JDBC fetch size used when streaming rooms for export
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Lock timeout hint value asking for SKIP LOCKED (Hibernate LockOptions.SKIP_LOCKED)
+     */
+    String LOCK_TIMEOUT_SKIP_LOCKED = "-2";
+
+    /**
+     * Find all rooms with pagination, fetching the room type in the same query
+     */
+    @Override
+    @EntityGraph(attributePaths = "roomType")
+    Page<Room> findAll(Pageable pageable);
+
+    /**
+     * Find room by ID, fetching the room type in the same query
+     */
+    @EntityGraph(attributePaths = "roomType")
+    Optional<Room> findWithRoomTypeById(Long id);
+
+    /**
+     * Get the version of a room representation without loading the entity
+     */
+    @Query("SELECT r.id AS id, r.version AS version, rt.version AS roomTypeVersion, " +
+           "(SELECT COUNT(r2) FROM Room r2 WHERE r2.roomTypeId = r.roomTypeId) AS roomCount, " +
+           "(SELECT COUNT(r2) FROM Room r2 WHERE r2.roomTypeId = r.roomTypeId AND r2.isActive = true) AS activeRoomCount " +
+           "FROM Room r JOIN r.roomType rt WHERE r.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Get the version of a room representation by room number without loading the entity
+     */
+    @Query("SELECT r.id AS id, r.version AS version, rt.version AS roomTypeVersion, " +
+           "(SELECT COUNT(r2) FROM Room r2 WHERE r2.roomTypeId = r.roomTypeId) AS roomCount, " +
+           "(SELECT COUNT(r2) FROM Room r2 WHERE r2.roomTypeId = r.roomTypeId AND r2.isActive = true) AS activeRoomCount " +
+           "FROM Room r JOIN r.roomType rt WHERE r.roomNumber = :roomNumber")
+    Optional<ResourceVersion> findVersionByRoomNumber(@Param("roomNumber") String roomNumber);
 
     /**
      * Find room by room number
      */
+    @EntityGraph(attributePaths = "roomType")
     Optional<Room> findByRoomNumber(String roomNumber);
 
+    /**
+     * Find which of the given room numbers already exist
+     */
+    @Query("SELECT r.roomNumber FROM Room r WHERE r.roomNumber IN :roomNumbers")
+    List<String> findExistingRoomNumbers(@Param("roomNumbers") Collection<String> roomNumbers);
+
     /**
      * Check if room number exists (excluding specific ID)
      */
@@ -36,6 +104,7 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     /**
      * Find all active rooms
      */
+    @EntityGraph(attributePaths = "roomType")
     List<Room> findByIsActiveTrue();
 
     /**
@@ -43,79 +112,163 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      */
     Page<Room> findByIsActiveTrue(Pageable pageable);
 
+    /**
+     * First keyset page of rooms ordered by (floor, room number, id), without a count query
+     */
+    @Query("SELECT r FROM Room r JOIN FETCH r.roomType ORDER BY r.floor, r.roomNumber, r.id")
+    Slice<Room> findFirstKeysetPage(Pageable pageable);
+
+    /**
+     * Keyset page of rooms following the given (floor, room number, id) position
+     */
+    @Query("SELECT r FROM Room r JOIN FETCH r.roomType " +
+           "WHERE r.floor > :floor " +
+           "OR (r.floor = :floor AND r.roomNumber > :roomNumber) " +
+           "OR (r.floor = :floor AND r.roomNumber = :roomNumber AND r.id > :id) " +
+           "ORDER BY r.floor, r.roomNumber, r.id")
+    Slice<Room> findKeysetPageAfter(@Param("floor") Integer floor,
+                                    @Param("roomNumber") String roomNumber,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    /**
+     * Stream rooms in ID order for export, fetching rows from the cursor in chunks.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Room r JOIN FETCH r.roomType " +
+           "WHERE (:includeInactive = true OR r.isActive = true) ORDER BY r.id")
+    Stream<Room> streamForExport(@Param("includeInactive") boolean includeInactive);
+
     /**
      * Find rooms by status
      */
+    @EntityGraph(attributePaths = "roomType")
     List<Room> findByStatusAndIsActiveTrue(RoomStatus status);
 
     /**
      * Find rooms by room type
      */
+    @EntityGraph(attributePaths = "roomType")
     List<Room> findByRoomTypeIdAndIsActiveTrue(Long roomTypeId);
 
     /**
      * Find rooms by floor
      */
+    @EntityGraph(attributePaths = "roomType")
     List<Room> findByFloorAndIsActiveTrue(Integer floor);
 
     /**
-     * Find available rooms
+     * Find available rooms, in the same order as the reactive availability API
      */
-    @Query("SELECT r FROM Room r WHERE r.status = 'AVAILABLE' AND r.isActive = true")
+    @Query("SELECT r FROM Room r JOIN FETCH r.roomType WHERE r.status = 'AVAILABLE' AND r.isActive = true " +
+           "ORDER BY r.floor, r.roomNumber, r.id")
     List<Room> findAvailableRooms();
 
     /**
      * Find available rooms by room type
      */
-    @Query("SELECT r FROM Room r WHERE r.roomTypeId = :roomTypeId AND r.status = 'AVAILABLE' AND r.isActive = true")
+    @Query("SELECT r FROM Room r JOIN FETCH r.roomType WHERE r.roomTypeId = :roomTypeId AND r.status = 'AVAILABLE' AND r.isActive = true " +
+           "ORDER BY r.floor, r.roomNumber, r.id")
     List<Room> findAvailableRoomsByType(@Param("roomTypeId") Long roomTypeId);
 
     /**
-     * Find rooms with filters
-     */
-    @Query("SELECT r FROM Room r JOIN r.roomType rt WHERE " +
-           "(:status IS NULL OR r.status = :status) AND " +
-           "(:roomTypeId IS NULL OR r.roomTypeId = :roomTypeId) AND " +
-           "(:floor IS NULL OR r.floor = :floor) AND " +
-           "(:viewType IS NULL OR LOWER(r.viewType) LIKE LOWER(CONCAT('%', :viewType, '%'))) AND " +
-           "(:hasBalcony IS NULL OR r.hasBalcony = :hasBalcony) AND " +
-           "(:minPrice IS NULL OR rt.basePrice >= :minPrice) AND " +
-           "(:maxPrice IS NULL OR rt.basePrice <= :maxPrice) AND " +
-           "(:isActive IS NULL OR r.isActive = :isActive)")
-    Page<Room> findRoomsWithFilters(
-        @Param("status") RoomStatus status,
-        @Param("roomTypeId") Long roomTypeId,
-        @Param("floor") Integer floor,
-        @Param("viewType") String viewType,
-        @Param("hasBalcony") Boolean hasBalcony,
-        @Param("minPrice") BigDecimal minPrice,
-        @Param("maxPrice") BigDecimal maxPrice,
-        @Param("isActive") Boolean isActive,
-        Pageable pageable
+     * Find rooms matching a dynamic specification, fetching the room type in the same query
+     */
+    @Override
+    @EntityGraph(attributePaths = "roomType")
+    Page<Room> findAll(Specification<Room> spec, Pageable pageable);
+
+    /**
+     * Atomically change the status of a room only if it still has the expected status
+     * 
+     * Notes and last maintenance date are only overwritten when non-null.
+     * Returns the number of updated rows (0 if the status changed concurrently).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Room r SET r.status = :newStatus, " +
+           "r.notes = COALESCE(CAST(:notes AS String), r.notes), " +
+           "r.lastMaintenance = COALESCE(CAST(:lastMaintenance AS LocalDateTime), r.lastMaintenance), " +
+           "r.updatedAt = :updatedAt, " +
+           "r.version = r.version + 1 " +
+           "WHERE r.id = :id AND r.status = :expectedStatus")
+    int compareAndSetStatus(
+        @Param("id") Long id,
+        @Param("expectedStatus") RoomStatus expectedStatus,
+        @Param("newStatus") RoomStatus newStatus,
+        @Param("notes") String notes,
+        @Param("lastMaintenance") LocalDateTime lastMaintenance,
+        @Param("updatedAt") LocalDateTime updatedAt
     );
 
+    /**
+     * Snapshot of available active rooms of the given types for room assignment
+     */
+    @Query("SELECT new com.hotel.roommanagement.repository.projection.AssignableRoom(" +
+           "r.id, r.roomNumber, r.roomTypeId, r.floor, r.viewType, r.hasBalcony) FROM Room r " +
+           "WHERE r.status = 'AVAILABLE' AND r.isActive = true AND r.roomTypeId IN :roomTypeIds " +
+           "ORDER BY r.floor, r.roomNumber")
+    List<AssignableRoom> findAssignableRooms(@Param("roomTypeIds") Collection<Long> roomTypeIds);
+
+    /**
+     * Lock a room row for booking, waiting for concurrent bookers of the same room
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id = :id")
+    Optional<Room> findByIdForBooking(@Param("id") Long id);
+
+    /**
+     * Lock a room row for booking, or return empty if another transaction holds its lock
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = LOCK_TIMEOUT_SKIP_LOCKED))
+    @Query("SELECT r FROM Room r WHERE r.id = :id")
+    Optional<Room> findByIdForBookingSkipLocked(@Param("id") Long id);
+
     /**
      * Get room statistics by status
      */
-    @Query("SELECT r.status, COUNT(r) FROM Room r WHERE r.isActive = true GROUP BY r.status")
-    List<Object[]> getRoomStatisticsByStatus();
+    @Query("SELECT r.status AS status, COUNT(r) AS roomCount FROM Room r WHERE r.isActive = true GROUP BY r.status")
+    List<RoomStatusCount> getRoomStatisticsByStatus();
+
+    /**
+     * Get active room counts per status using conditional aggregation in a single query
+     */
+    @Query("SELECT COUNT(r) AS totalRooms, " +
+           "COALESCE(SUM(CASE WHEN r.status = 'AVAILABLE' THEN 1 ELSE 0 END), 0) AS availableRooms, " +
+           "COALESCE(SUM(CASE WHEN r.status = 'OCCUPIED' THEN 1 ELSE 0 END), 0) AS occupiedRooms, " +
+           "COALESCE(SUM(CASE WHEN r.status = 'MAINTENANCE' THEN 1 ELSE 0 END), 0) AS maintenanceRooms, " +
+           "COALESCE(SUM(CASE WHEN r.status = 'OUT_OF_ORDER' THEN 1 ELSE 0 END), 0) AS outOfOrderRooms " +
+           "FROM Room r WHERE r.isActive = true")
+    RoomStatusSummary getRoomStatusSummary();
 
     /**
      * Get room statistics by room type
      */
-    @Query("SELECT rt.name, COUNT(r) FROM Room r JOIN r.roomType rt WHERE r.isActive = true GROUP BY rt.name")
-    List<Object[]> getRoomStatisticsByType();
+    @Query("SELECT rt.name AS typeName, COUNT(r) AS roomCount " +
+           "FROM Room r JOIN r.roomType rt WHERE r.isActive = true GROUP BY rt.name")
+    List<RoomTypeDistributionCount> getRoomStatisticsByType();
 
     /**
      * Get room statistics by floor
      */
-    @Query("SELECT r.floor, COUNT(r) FROM Room r WHERE r.isActive = true GROUP BY r.floor ORDER BY r.floor")
-    List<Object[]> getRoomStatisticsByFloor();
+    @Query("SELECT r.floor AS floor, COUNT(r) AS roomCount FROM Room r WHERE r.isActive = true GROUP BY r.floor ORDER BY r.floor")
+    List<RoomFloorCount> getRoomStatisticsByFloor();
+
+    /**
+     * Get active room counts grouped by status, room type and floor
+     */
+    @Query("SELECT r.status AS status, r.roomTypeId AS roomTypeId, r.floor AS floor, COUNT(r) AS roomCount " +
+           "FROM Room r WHERE r.isActive = true GROUP BY r.status, r.roomTypeId, r.floor")
+    List<RoomCountBucket> getRoomCountBuckets();
 
     /**
      * Find rooms needing maintenance (last maintenance > 30 days ago or never)
      */
-    @Query("SELECT r FROM Room r WHERE r.isActive = true AND " +
+    @Query("SELECT r FROM Room r JOIN FETCH r.roomType WHERE r.isActive = true AND " +
            "(r.lastMaintenance IS NULL OR r.lastMaintenance < :cutoffDate)")
     List<Room> findRoomsNeedingMaintenance(@Param("cutoffDate") LocalDateTime cutoffDate);
 
@@ -141,11 +294,13 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     /**
      * Find rooms by view type
      */
+    @EntityGraph(attributePaths = "roomType")
     List<Room> findByViewTypeIgnoreCaseAndIsActiveTrue(String viewType);
 
     /**
      * Find rooms with balcony
      */
+    @EntityGraph(attributePaths = "roomType")
     List<Room> findByHasBalconyTrueAndIsActiveTrue();
 
     /**
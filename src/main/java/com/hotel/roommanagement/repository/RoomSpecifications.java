@@ -0,0 +1,86 @@
+package com.hotel.roommanagement.repository;
+
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.enums.RoomStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Specifications for dynamic room queries
+ *
+ * Each factory returns null when its value is not supplied, so combining
+ * them with {@link Specification#where} only emits predicates for the
+ * filters actually in use. The equality filters line up with the
+ * (status, is_active, room_type_id, floor) index on rooms.
+ */
+public final class RoomSpecifications {
+
+    private RoomSpecifications() {
+    }
+
+    public static Specification<Room> hasStatus(RoomStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Room> isActive(Boolean isActive) {
+        return isActive == null ? null : (root, query, cb) -> cb.equal(root.get("isActive"), isActive);
+    }
+
+    public static Specification<Room> hasRoomType(Long roomTypeId) {
+        return roomTypeId == null ? null : (root, query, cb) -> cb.equal(root.get("roomTypeId"), roomTypeId);
+    }
+
+    /**
+     * Room type among the given IDs; an empty collection matches nothing
+     */
+    public static Specification<Room> hasRoomTypeIn(Collection<Long> roomTypeIds) {
+        if (roomTypeIds == null) {
+            return null;
+        }
+        return roomTypeIds.isEmpty()
+            ? (root, query, cb) -> cb.disjunction()
+            : (root, query, cb) -> root.get("roomTypeId").in(roomTypeIds);
+    }
+
+    public static Specification<Room> onFloor(Integer floor) {
+        return floor == null ? null : (root, query, cb) -> cb.equal(root.get("floor"), floor);
+    }
+
+    public static Specification<Room> hasBalcony(Boolean hasBalcony) {
+        return hasBalcony == null ? null : (root, query, cb) -> cb.equal(root.get("hasBalcony"), hasBalcony);
+    }
+
+    /**
+     * Case-insensitive substring match on the view type
+     */
+    public static Specification<Room> viewTypeContains(String viewType) {
+        if (viewType == null || viewType.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + viewType.trim().toLowerCase() + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("viewType")), pattern);
+    }
+
+    /**
+     * Rooms following the given (floor, room number, id) keyset position
+     */
+    public static Specification<Room> after(Integer floor, String roomNumber, Long id) {
+        return (root, query, cb) -> cb.or(
+            cb.greaterThan(root.get("floor"), floor),
+            cb.and(cb.equal(root.get("floor"), floor), cb.greaterThan(root.get("roomNumber"), roomNumber)),
+            cb.and(cb.equal(root.get("floor"), floor), cb.equal(root.get("roomNumber"), roomNumber),
+                cb.greaterThan(root.get("id"), id)));
+    }
+
+    public static Specification<Room> minPrice(BigDecimal minPrice) {
+        return minPrice == null ? null 
+            : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("roomType").get("basePrice"), minPrice);
+    }
+
+    public static Specification<Room> maxPrice(BigDecimal maxPrice) {
+        return maxPrice == null ? null 
+            : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("roomType").get("basePrice"), maxPrice);
+    }
+}
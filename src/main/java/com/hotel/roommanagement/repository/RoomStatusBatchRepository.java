@@ -0,0 +1,33 @@
+package com.hotel.roommanagement.repository;
+
+import com.hotel.roommanagement.enums.RoomStatus;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom repository fragment for batched room status updates
+ */
+public interface RoomStatusBatchRepository {
+
+    /**
+     * Apply compare-and-set status changes in a single JDBC batch
+     * 
+     * Each change only applies if the room still has its expected status.
+     * Returns, for each change in order, whether the row was updated.
+     */
+    boolean[] batchCompareAndSetStatus(List<StatusChange> changes, LocalDateTime updatedAt);
+
+    /**
+     * A single guarded status change
+     */
+    @Value
+    class StatusChange {
+        Long id;
+        RoomStatus expectedStatus;
+        RoomStatus newStatus;
+        String notes;
+        LocalDateTime lastMaintenance;
+    }
+}
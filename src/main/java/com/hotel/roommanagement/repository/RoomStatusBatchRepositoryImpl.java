@@ -0,0 +1,63 @@
+package com.hotel.roommanagement.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of batched room status updates
+ * 
+ * Runs inside the surrounding JPA transaction; the statements bypass the
+ * persistence context, so callers must not rely on managed Room entities
+ * after calling it.
+ * 
+ * The compare-and-set outcome is read from the per-statement update
+ * counts. H2 and PostgreSQL always report them; a driver that answers
+ * SUCCESS_NO_INFO is rejected rather than guessed at, which rolls the
+ * surrounding transaction back.
+ */
+@RequiredArgsConstructor
+public class RoomStatusBatchRepositoryImpl implements RoomStatusBatchRepository {
+
+    private static final String COMPARE_AND_SET_STATUS_SQL =
+        "UPDATE rooms SET status = ?, " +
+        "notes = COALESCE(?, notes), " +
+        "last_maintenance = COALESCE(?, last_maintenance), " +
+        "updated_at = ?, " +
+        "version = version + 1 " +
+        "WHERE id = ? AND status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean[] batchCompareAndSetStatus(List<StatusChange> changes, LocalDateTime updatedAt) {
+        List<Object[]> batchArgs = changes.stream()
+            .map(change -> new Object[] {
+                change.getNewStatus().name(),
+                new SqlParameterValue(Types.VARCHAR, change.getNotes()),
+                new SqlParameterValue(Types.TIMESTAMP, change.getLastMaintenance()),
+                updatedAt,
+                change.getId(),
+                change.getExpectedStatus().name()
+            })
+            .toList();
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(COMPARE_AND_SET_STATUS_SQL, batchArgs);
+
+        boolean[] applied = new boolean[updateCounts.length];
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IncorrectUpdateSemanticsDataAccessException(
+                    "JDBC driver did not report update counts for batched room status changes");
+            }
+            applied[i] = updateCounts[i] > 0;
+        }
+        return applied;
+    }
+}
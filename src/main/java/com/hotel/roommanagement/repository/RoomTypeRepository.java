@@ -1,14 +1,22 @@
 package com.hotel.roommanagement.repository;
 
 import com.hotel.roommanagement.entity.RoomType;
+import com.hotel.roommanagement.repository.projection.CatalogVersion;
+import com.hotel.roommanagement.repository.projection.ResourceVersion;
+import com.hotel.roommanagement.repository.projection.RoomTypeAmenityMask;
+import com.hotel.roommanagement.repository.projection.RoomTypeRoomCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +29,11 @@ import java.util.Optional;
 @Repository
 public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
 
+    /**
+     * Query cache region for room type lookups
+     */
+    String QUERY_CACHE_REGION = "roomTypeQueries";
+
     /**
      * Find room type by name (case-insensitive)
      */
@@ -32,8 +45,12 @@ public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
     boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
 
     /**
-     * Find all active room types
+     * Find all active room types (served from the query cache)
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<RoomType> findByIsActiveTrue();
 
     /**
@@ -79,4 +96,47 @@ public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
            "LOWER(rt.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
            "rt.isActive = true")
     Page<RoomType> searchRoomTypes(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    /**
+     * Count rooms and active rooms for the given room types in a single query
+     */
+    @Query("SELECT r.roomTypeId AS roomTypeId, COUNT(r) AS roomCount, " +
+           "SUM(CASE WHEN r.isActive = true THEN 1 ELSE 0 END) AS activeRoomCount " +
+           "FROM Room r WHERE r.roomTypeId IN :roomTypeIds " +
+           "GROUP BY r.roomTypeId")
+    List<RoomTypeRoomCount> countRoomsByRoomTypeIds(@Param("roomTypeIds") Collection<Long> roomTypeIds);
+
+    /**
+     * Count active rooms of a room type without loading the rooms collection
+     */
+    @Query("SELECT COUNT(r) FROM Room r WHERE r.roomTypeId = :roomTypeId AND r.isActive = true")
+    long countActiveRoomsByRoomTypeId(@Param("roomTypeId") Long roomTypeId);
+
+    /**
+     * Get the version of a room type representation without loading the entity
+     */
+    @Query("SELECT rt.id AS id, rt.version AS version, rt.version AS roomTypeVersion, " +
+           "COUNT(r) AS roomCount, SUM(CASE WHEN r.isActive = true THEN 1 ELSE 0 END) AS activeRoomCount " +
+           "FROM RoomType rt LEFT JOIN rt.rooms r WHERE rt.id = :id GROUP BY rt.id, rt.version")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Get the collection-level version of the room and room type tables
+     */
+    @Query("SELECT COUNT(r) + COALESCE(SUM(r.version), 0) AS roomsVersion, " +
+           "(SELECT COUNT(rt) + COALESCE(SUM(rt.version), 0) FROM RoomType rt) AS roomTypesVersion " +
+           "FROM Room r")
+    CatalogVersion getCatalogVersion();
+
+    /**
+     * Get the amenity bitmask of every room type
+     */
+    @Query("SELECT rt.id AS id, rt.amenityMask AS amenityMask FROM RoomType rt")
+    List<RoomTypeAmenityMask> findAmenityMasks();
+
+    /**
+     * Find room types whose amenities JSON has not been parsed into a bitmask yet
+     */
+    @Query("SELECT rt FROM RoomType rt WHERE rt.amenityMask IS NULL AND rt.amenities IS NOT NULL")
+    List<RoomType> findWithUnparsedAmenities();
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.hotel.roommanagement.repository.projection;
+
+import lombok.Value;
+
+/**
+ * Projection of the room fields used by automatic room assignment
+ *
+ * A class rather than an interface projection: assignment loads every
+ * available room of a type and reads these fields in a tight loop, where
+ * proxied getters are too slow.
+ */
+@Value
+public class AssignableRoom {
+
+    Long id;
+    String roomNumber;
+    Long roomTypeId;
+    Integer floor;
+    String viewType;
+    Boolean hasBalcony;
+}
@@ -0,0 +1,28 @@
+package com.hotel.roommanagement.repository.projection;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Projection of the collection-level version of the room and room type tables
+ * 
+ * Each table's version is its row count plus the sum of its row versions.
+ * Rows are only ever soft deleted, so every insert and every update
+ * (including soft deletes) raises the sum by one and the derived ETag
+ * never returns to an earlier value.
+ */
+public interface CatalogVersion {
+
+    Long getRoomsVersion();
+
+    Long getRoomTypesVersion();
+
+    /**
+     * Build a strong ETag from the version fields
+     */
+    default String toETag() {
+        String version = getRoomsVersion() + "|" + getRoomTypesVersion();
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
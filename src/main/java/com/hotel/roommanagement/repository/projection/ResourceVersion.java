@@ -0,0 +1,34 @@
+package com.hotel.roommanagement.repository.projection;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Projection of everything a single room or room type representation depends on
+ * 
+ * Besides the resource's own optimistic lock version this covers the
+ * embedded room type and the aggregated room counts, so the derived ETag
+ * changes whenever the serialized body would.
+ */
+public interface ResourceVersion {
+
+    Long getId();
+
+    Long getVersion();
+
+    Long getRoomTypeVersion();
+
+    Long getRoomCount();
+
+    Long getActiveRoomCount();
+
+    /**
+     * Build a strong ETag from the version fields
+     */
+    default String toETag() {
+        String version = getId() + "|" + getVersion() + "|" + getRoomTypeVersion() + "|" +
+            getRoomCount() + "|" + getActiveRoomCount();
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
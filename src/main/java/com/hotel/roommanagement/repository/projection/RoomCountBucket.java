@@ -0,0 +1,17 @@
+package com.hotel.roommanagement.repository.projection;
+
+import com.hotel.roommanagement.enums.RoomStatus;
+
+/**
+ * Projection of the number of active rooms per (status, room type, floor) bucket
+ */
+public interface RoomCountBucket {
+
+    RoomStatus getStatus();
+
+    Long getRoomTypeId();
+
+    Integer getFloor();
+
+    Long getRoomCount();
+}
@@ -0,0 +1,11 @@
+package com.hotel.roommanagement.repository.projection;
+
+/**
+ * Projection of the number of active rooms per floor
+ */
+public interface RoomFloorCount {
+
+    Integer getFloor();
+
+    Long getRoomCount();
+}
@@ -0,0 +1,13 @@
+package com.hotel.roommanagement.repository.projection;
+
+import com.hotel.roommanagement.enums.RoomStatus;
+
+/**
+ * Projection of the number of active rooms per status
+ */
+public interface RoomStatusCount {
+
+    RoomStatus getStatus();
+
+    Long getRoomCount();
+}
@@ -0,0 +1,17 @@
+package com.hotel.roommanagement.repository.projection;
+
+/**
+ * Projection of active room counts aggregated by status in a single pass
+ */
+public interface RoomStatusSummary {
+
+    Long getTotalRooms();
+
+    Long getAvailableRooms();
+
+    Long getOccupiedRooms();
+
+    Long getMaintenanceRooms();
+
+    Long getOutOfOrderRooms();
+}
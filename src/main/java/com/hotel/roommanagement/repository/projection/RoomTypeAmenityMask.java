@@ -0,0 +1,11 @@
+package com.hotel.roommanagement.repository.projection;
+
+/**
+ * Projection of the amenity bitmask of a single room type
+ */
+public interface RoomTypeAmenityMask {
+
+    Long getId();
+
+    byte[] getAmenityMask();
+}
@@ -0,0 +1,11 @@
+package com.hotel.roommanagement.repository.projection;
+
+/**
+ * Projection of the number of active rooms per room type name
+ */
+public interface RoomTypeDistributionCount {
+
+    String getTypeName();
+
+    Long getRoomCount();
+}
@@ -0,0 +1,13 @@
+package com.hotel.roommanagement.repository.projection;
+
+/**
+ * Projection of aggregated room counts for a single room type
+ */
+public interface RoomTypeRoomCount {
+
+    Long getRoomTypeId();
+
+    Long getRoomCount();
+
+    Long getActiveRoomCount();
+}
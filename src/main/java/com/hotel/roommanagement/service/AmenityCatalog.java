@@ -0,0 +1,240 @@
+package com.hotel.roommanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.roommanagement.entity.Amenity;
+import com.hotel.roommanagement.entity.RoomType;
+import com.hotel.roommanagement.event.RoomTypeChangedEvent;
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import com.hotel.roommanagement.repository.AmenityRepository;
+import com.hotel.roommanagement.repository.RoomTypeRepository;
+import com.hotel.roommanagement.repository.projection.RoomTypeAmenityMask;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory amenity catalog and room type amenity bitmasks
+ *
+ * Room types keep their amenities as a JSON list for the API, plus a
+ * bitmask with one bit per catalog amenity. The catalog and the mask of
+ * every room type are held in memory so amenity filters reduce to a
+ * bitwise AND per room type. Masks are refreshed from room type change
+ * events after commit. Masks held here are never modified in place.
+ *
+ * At startup, room types whose JSON has not been parsed yet (such as the
+ * sample data) are migrated: their amenities are added to the catalog and
+ * their masks are stored.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AmenityCatalog {
+
+    private static final TypeReference<List<String>> AMENITY_LIST = new TypeReference<>() {};
+
+    private final AmenityRepository amenityRepository;
+    private final RoomTypeRepository roomTypeRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Catalog keyed by lower-case amenity name
+     */
+    private final Map<String, Amenity> amenitiesByName = new ConcurrentHashMap<>();
+    private final Map<Long, BitSet> roomTypeMasks = new ConcurrentHashMap<>();
+
+    /**
+     * Load the catalog and migrate unparsed room types before other startup listeners run
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void initialize() {
+        amenityRepository.findAllByOrderByBitIndexAsc()
+            .forEach(amenity -> amenitiesByName.put(key(amenity.getName()), amenity));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> migrateUnparsedAmenities());
+
+        for (RoomTypeAmenityMask roomTypeMask : roomTypeRepository.findAmenityMasks()) {
+            byte[] mask = roomTypeMask.getAmenityMask();
+            roomTypeMasks.put(roomTypeMask.getId(), mask != null ? BitSet.valueOf(mask) : new BitSet());
+        }
+
+        log.info("Loaded amenity catalog: {} amenities across {} room types",
+            amenitiesByName.size(), roomTypeMasks.size());
+    }
+
+    /**
+     * Compute the bitmask of an amenities JSON list, adding unknown amenities to the catalog
+     */
+    public BitSet toMask(String amenitiesJson) {
+        List<String> names = parse(amenitiesJson);
+        register(names);
+
+        BitSet mask = new BitSet();
+        for (String name : names) {
+            mask.set(amenitiesByName.get(key(name)).getBitIndex());
+        }
+        return mask;
+    }
+
+    /**
+     * IDs of room types offering every one of the given amenities
+     *
+     * Unknown amenity names match no room types.
+     */
+    public Set<Long> findRoomTypesWithAll(Collection<String> names) {
+        BitSet required = new BitSet();
+        for (String name : names) {
+            Amenity amenity = amenitiesByName.get(key(name));
+            if (amenity == null) {
+                return Set.of();
+            }
+            required.set(amenity.getBitIndex());
+        }
+
+        return roomTypeMasks.entrySet().stream()
+            .filter(entry -> containsAll(entry.getValue(), required))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Catalog in bit order with the number of room types offering each amenity
+     */
+    public List<AmenityUsage> getCatalog() {
+        return amenitiesByName.values().stream()
+            .sorted(Comparator.comparing(Amenity::getBitIndex))
+            .map(amenity -> new AmenityUsage(amenity, roomTypeMasks.values().stream()
+                .filter(mask -> mask.get(amenity.getBitIndex()))
+                .count()))
+            .toList();
+    }
+
+    /**
+     * Keep room type masks in sync after commit
+     */
+    @TransactionalEventListener
+    public void onRoomTypeChanged(RoomTypeChangedEvent event) {
+        roomTypeMasks.put(event.getRoomTypeId(), event.getAmenityMask());
+    }
+
+    private void migrateUnparsedAmenities() {
+        List<RoomType> roomTypes = roomTypeRepository.findWithUnparsedAmenities();
+        int migrated = 0;
+
+        for (RoomType roomType : roomTypes) {
+            try {
+                roomType.setAmenityMask(toMask(roomType.getAmenities()).toByteArray());
+                migrated++;
+            } catch (BusinessLogicException ex) {
+                log.warn("Skipping amenities of room type ID {}: {}", roomType.getId(), ex.getMessage());
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("Migrated amenities JSON of {} room types to bitmasks", migrated);
+        }
+    }
+
+    private List<String> parse(String amenitiesJson) {
+        if (amenitiesJson == null || amenitiesJson.isBlank()) {
+            return List.of();
+        }
+
+        List<String> names;
+        try {
+            names = objectMapper.readValue(amenitiesJson, AMENITY_LIST);
+        } catch (JsonProcessingException ex) {
+            throw new BusinessLogicException("Amenities must be a JSON array of strings");
+        }
+
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                distinct.add(name.trim());
+            }
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * Add missing amenities to the catalog in their own transaction
+     *
+     * Committing separately keeps the in-memory catalog consistent with the
+     * database even if the caller's transaction rolls back.
+     */
+    private synchronized void register(List<String> names) {
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (String name : names) {
+            String key = key(name);
+            if (!amenitiesByName.containsKey(key)) {
+                missing.putIfAbsent(key, name);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        int nextBit = amenitiesByName.values().stream()
+            .mapToInt(Amenity::getBitIndex)
+            .max()
+            .orElse(-1) + 1;
+        if (nextBit + missing.size() > Amenity.MAX_AMENITIES) {
+            throw new BusinessLogicException("Amenity catalog cannot exceed " + Amenity.MAX_AMENITIES + " amenities");
+        }
+
+        List<Amenity> created = new ArrayList<>(missing.size());
+        for (String name : missing.values()) {
+            created.add(Amenity.builder().name(name).bitIndex(nextBit++).build());
+        }
+
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        List<Amenity> saved = requiresNew.execute(status -> amenityRepository.saveAll(created));
+
+        saved.forEach(amenity -> amenitiesByName.put(key(amenity.getName()), amenity));
+        log.info("Added amenities to catalog: {}", missing.values());
+    }
+
+    private static boolean containsAll(BitSet mask, BitSet required) {
+        BitSet missing = (BitSet) required.clone();
+        missing.andNot(mask);
+        return missing.isEmpty();
+    }
+
+    private String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Catalog entry with its usage count
+     */
+    @Value
+    public static class AmenityUsage {
+        Amenity amenity;
+        long roomTypeCount;
+    }
+}
@@ -0,0 +1,262 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.entity.Reservation;
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.enums.ReservationStatus;
+import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.event.ReservationChangedEvent;
+import com.hotel.roommanagement.event.RoomChangedEvent;
+import com.hotel.roommanagement.repository.ReservationRepository;
+import com.hotel.roommanagement.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-room booking calendar
+ *
+ * Every room keeps its confirmed stays as a map from check-in to check-out
+ * date, sorted by check-in. Stays of one room never overlap, so a date
+ * range is free exactly when the last stay starting before the range ends
+ * on or before its first night: one floor lookup per room. Availability
+ * searches therefore never touch the database.
+ *
+ * Nights are held in the index before a reservation is written and the
+ * check and the hold happen under the room's own monitor, so bookings of
+ * different rooms never contend and two concurrent bookings of the same
+ * nights cannot both succeed. A hold is released if its transaction does
+ * not commit. The index is loaded at startup, follows room changes after
+ * commit, and drops past stays periodically.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityIndex {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final RoomRepository roomRepository;
+    private final ReservationRepository reservationRepository;
+
+    private final Map<Long, RoomCalendar> calendars = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> roomIdsByType = new ConcurrentHashMap<>();
+
+    /**
+     * Load rooms and upcoming reservations once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long started = System.currentTimeMillis();
+
+        // Page through rooms by keyset so loading never holds every room entity at once
+        Pageable page = PageRequest.of(0, LOAD_PAGE_SIZE);
+        Slice<Room> rooms = roomRepository.findFirstKeysetPage(page);
+        while (true) {
+            rooms.forEach(room -> track(RoomChangedEvent.RoomState.of(room)));
+            if (!rooms.hasNext() || rooms.getContent().isEmpty()) {
+                break;
+            }
+            RoomCursor last = RoomCursor.after(rooms.getContent().get(rooms.getContent().size() - 1));
+            rooms = roomRepository.findKeysetPageAfter(last.getFloor(), last.getRoomNumber(), last.getId(), page);
+        }
+
+        List<Reservation> reservations = reservationRepository.findConfirmedEndingAfter(LocalDate.now());
+        for (Reservation reservation : reservations) {
+            RoomCalendar calendar = calendars.get(reservation.getRoomId());
+            if (calendar == null || !calendar.tryBook(reservation.getCheckIn(), reservation.getCheckOut())) {
+                log.warn("Skipping reservation ID {} while loading availability index", reservation.getId());
+            }
+        }
+
+        log.info("Loaded availability index: {} rooms, {} upcoming reservations in {} ms",
+            calendars.size(), reservations.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Check whether a room has no stay overlapping the given nights
+     */
+    public boolean isFree(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        RoomCalendar calendar = calendars.get(roomId);
+        return calendar == null || calendar.isFree(checkIn, checkOut);
+    }
+
+    /**
+     * Hold the nights of a stay for the current transaction
+     *
+     * @return false if the room already has a stay overlapping these nights
+     */
+    public boolean hold(Room room, LocalDate checkIn, LocalDate checkOut) {
+        RoomCalendar calendar = calendars.get(room.getId());
+        if (calendar == null) {
+            // Room created after the index was loaded and before its change event arrived
+            track(RoomChangedEvent.RoomState.of(room));
+            calendar = calendars.get(room.getId());
+        }
+        if (!calendar.tryBook(checkIn, checkOut)) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            RoomCalendar held = calendar;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        held.release(checkIn, checkOut);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Rooms of a type (or of every type if null) that are free for all nights of a stay
+     *
+     * Inactive and out-of-order rooms are never offered.
+     */
+    public List<RoomChangedEvent.RoomState> findAvailable(Long roomTypeId, LocalDate checkIn, LocalDate checkOut) {
+        Collection<Long> roomIds = roomTypeId != null
+            ? roomIdsByType.getOrDefault(roomTypeId, Set.of())
+            : calendars.keySet();
+
+        List<RoomChangedEvent.RoomState> available = new ArrayList<>();
+        for (Long roomId : roomIds) {
+            RoomCalendar calendar = calendars.get(roomId);
+            if (calendar == null) {
+                continue;
+            }
+            RoomChangedEvent.RoomState room = calendar.getRoom();
+            if (room.isActive() && room.getStatus() != RoomStatus.OUT_OF_ORDER
+                    && calendar.isFree(checkIn, checkOut)) {
+                available.add(room);
+            }
+        }
+        available.sort(Comparator.comparing(RoomChangedEvent.RoomState::getFloor)
+            .thenComparing(RoomChangedEvent.RoomState::getRoomNumber));
+        return available;
+    }
+
+    /**
+     * Follow committed room changes
+     */
+    @TransactionalEventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        if (event.getAfter() != null) {
+            track(event.getAfter());
+        }
+    }
+
+    /**
+     * Release the nights of a cancelled reservation after commit
+     */
+    @TransactionalEventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.getStatus() != ReservationStatus.CANCELLED) {
+            return;
+        }
+        RoomCalendar calendar = calendars.get(event.getRoomId());
+        if (calendar != null) {
+            calendar.release(event.getCheckIn(), event.getCheckOut());
+        }
+    }
+
+    /**
+     * Drop stays that have ended
+     */
+    @Scheduled(fixedDelayString = "${app.reservations.prune-interval:PT1H}",
+               initialDelayString = "${app.reservations.prune-interval:PT1H}")
+    public void prune() {
+        LocalDate today = LocalDate.now();
+        int pruned = calendars.values().stream()
+            .mapToInt(calendar -> calendar.pruneEndingOnOrBefore(today))
+            .sum();
+        if (pruned > 0) {
+            log.debug("Pruned {} past stays from availability index", pruned);
+        }
+    }
+
+    private void track(RoomChangedEvent.RoomState room) {
+        RoomCalendar calendar = calendars.computeIfAbsent(room.getId(), id -> new RoomCalendar(room));
+        Long previousTypeId = calendar.getRoom().getRoomTypeId();
+        calendar.setRoom(room);
+
+        if (!previousTypeId.equals(room.getRoomTypeId())) {
+            Set<Long> previous = roomIdsByType.get(previousTypeId);
+            if (previous != null) {
+                previous.remove(room.getId());
+            }
+        }
+        roomIdsByType.computeIfAbsent(room.getRoomTypeId(), id -> ConcurrentHashMap.newKeySet()).add(room.getId());
+    }
+
+    /**
+     * Confirmed stays of one room, guarded by its own monitor
+     */
+    private static class RoomCalendar {
+
+        private volatile RoomChangedEvent.RoomState room;
+        private final TreeMap<LocalDate, LocalDate> stays = new TreeMap<>();
+
+        RoomCalendar(RoomChangedEvent.RoomState room) {
+            this.room = room;
+        }
+
+        RoomChangedEvent.RoomState getRoom() {
+            return room;
+        }
+
+        void setRoom(RoomChangedEvent.RoomState room) {
+            this.room = room;
+        }
+
+        synchronized boolean isFree(LocalDate checkIn, LocalDate checkOut) {
+            // Only the last stay starting before check-out can reach past check-in
+            Map.Entry<LocalDate, LocalDate> previous = stays.lowerEntry(checkOut);
+            return previous == null || !previous.getValue().isAfter(checkIn);
+        }
+
+        synchronized boolean tryBook(LocalDate checkIn, LocalDate checkOut) {
+            if (!isFree(checkIn, checkOut)) {
+                return false;
+            }
+            stays.put(checkIn, checkOut);
+            return true;
+        }
+
+        synchronized void release(LocalDate checkIn, LocalDate checkOut) {
+            stays.remove(checkIn, checkOut);
+        }
+
+        synchronized int pruneEndingOnOrBefore(LocalDate date) {
+            int pruned = 0;
+            // Stays do not overlap, so check-out dates ascend with check-in dates
+            Iterator<LocalDate> checkOuts = stays.values().iterator();
+            while (checkOuts.hasNext() && !checkOuts.next().isAfter(date)) {
+                checkOuts.remove();
+                pruned++;
+            }
+            return pruned;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.dto.CacheStatisticsDto;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Service class for Hibernate cache statistics
+ * 
+ * Reports hit/miss ratios of the second-level and query caches.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Get second-level and query cache statistics
+     */
+    public CacheStatisticsDto.Response getCacheStatistics() {
+        log.debug("Getting cache statistics");
+        
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        
+        List<CacheStatisticsDto.Region> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .sorted()
+            .map(statistics::getCacheRegionStatistics)
+            .filter(Objects::nonNull)
+            .map(this::toRegion)
+            .toList();
+        
+        return CacheStatisticsDto.Response.builder()
+            .secondLevelCacheHits(statistics.getSecondLevelCacheHitCount())
+            .secondLevelCacheMisses(statistics.getSecondLevelCacheMissCount())
+            .secondLevelCacheHitRatio(hitRatio(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount()))
+            .queryCacheHits(statistics.getQueryCacheHitCount())
+            .queryCacheMisses(statistics.getQueryCacheMissCount())
+            .queryCacheHitRatio(hitRatio(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount()))
+            .regions(regions)
+            .build();
+    }
+
+    private CacheStatisticsDto.Region toRegion(CacheRegionStatistics regionStatistics) {
+        return CacheStatisticsDto.Region.builder()
+            .regionName(regionStatistics.getRegionName())
+            .hits(regionStatistics.getHitCount())
+            .misses(regionStatistics.getMissCount())
+            .puts(regionStatistics.getPutCount())
+            .hitRatio(hitRatio(regionStatistics.getHitCount(), regionStatistics.getMissCount()))
+            .build();
+    }
+
+    private double hitRatio(long hits, long misses) {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total : 0.0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hotel.roommanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.roommanagement.event.OutboxMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Outbox sink appending messages to a local file as newline-delimited JSON
+ *
+ * Each batch is written and forced to disk with a single sync, so a batch
+ * counts as delivered only once it is durable.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file")
+@RequiredArgsConstructor
+@Slf4j
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.outbox.file.path:outbox/room-events.ndjson}")
+    private Path path;
+
+    private FileChannel channel;
+
+    @PostConstruct
+    void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        log.info("Publishing outbox messages to {}", path.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (OutboxMessage message : messages) {
+            lines.write(objectMapper.writeValueAsBytes(message));
+            lines.write('\n');
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+}
@@ -0,0 +1,45 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.event.OutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Outbox sink keeping the latest messages in memory
+ *
+ * Stand-in for a message broker in development and load tests.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "in-memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+
+    @Value("${app.outbox.in-memory.capacity:10000}")
+    private int capacity;
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            messages.addLast(message);
+            if (messages.size() > capacity) {
+                messages.removeFirst();
+            }
+        }
+        log.debug("Published {} outbox messages in memory", batch.size());
+    }
+
+    /**
+     * The latest published messages, oldest first
+     */
+    public synchronized List<OutboxMessage> getMessages() {
+        return List.copyOf(messages);
+    }
+}
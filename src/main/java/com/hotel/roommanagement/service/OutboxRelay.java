@@ -0,0 +1,110 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.entity.OutboxEvent;
+import com.hotel.roommanagement.event.OutboxMessage;
+import com.hotel.roommanagement.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Relays outbox entries to the configured OutboxSink
+ *
+ * Polls for unpublished entries and hands them to the sink in ID order,
+ * one batch per transaction: the batch is locked, published and marked
+ * published, so relays on several instances never publish the same batch
+ * and a failed batch is retried, with everything after it, on the next
+ * poll. Batches are relayed back to back until the outbox is drained.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.retention:P7D}")
+    private Duration retention;
+
+    private Counter publishedMessages;
+    private Counter failedBatches;
+
+    @PostConstruct
+    void initialize() {
+        publishedMessages = Counter.builder("hotel.outbox.published")
+            .description("Outbox messages delivered to the sink")
+            .register(meterRegistry);
+        failedBatches = Counter.builder("hotel.outbox.failures")
+            .description("Outbox batches that failed and will be retried")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Relay pending outbox entries
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void relay() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Integer relayed;
+        do {
+            try {
+                relayed = transaction.execute(status -> relayBatch());
+            } catch (RuntimeException e) {
+                failedBatches.increment();
+                log.warn("Outbox relay failed, retrying on next poll: {}", e.getMessage());
+                return;
+            }
+        } while (relayed != null && relayed == batchSize);
+    }
+
+    /**
+     * Delete published entries older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:PT1H}",
+               initialDelayString = "${app.outbox.purge-interval:PT1H}")
+    public void purge() {
+        LocalDateTime publishedBefore = LocalDateTime.now().minus(retention);
+        Integer deleted = new TransactionTemplate(transactionManager)
+            .execute(status -> outboxEventRepository.deletePublishedBefore(publishedBefore));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published outbox entries", deleted);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findUnpublishedForUpdate(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            outboxSink.publish(batch.stream().map(OutboxMessage::of).toList());
+        } catch (Exception e) {
+            throw new IllegalStateException("Outbox sink rejected " + batch.size() + " messages from ID "
+                + batch.get(0).getId() + ": " + e.getMessage(), e);
+        }
+
+        outboxEventRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+        publishedMessages.increment(batch.size());
+        log.debug("Relayed {} outbox messages up to ID {}", batch.size(), batch.get(batch.size() - 1).getId());
+        return batch.size();
+    }
+}
@@ -0,0 +1,21 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.event.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox entries, such as a message broker
+ *
+ * Selected with {@code app.outbox.sink}. Delivery is at least once: a
+ * batch is retried, together with any entries after it, until publish
+ * returns, so a batch may be delivered again if the relay fails after
+ * publishing it. Consumers can de-duplicate by message ID.
+ */
+public interface OutboxSink {
+
+    /**
+     * Deliver a batch of messages in order, throwing if any could not be delivered
+     */
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
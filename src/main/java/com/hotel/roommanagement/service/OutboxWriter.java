@@ -0,0 +1,83 @@
+package com.hotel.roommanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.roommanagement.entity.OutboxEvent;
+import com.hotel.roommanagement.enums.OutboxAggregateType;
+import com.hotel.roommanagement.enums.RoomChangeType;
+import com.hotel.roommanagement.event.RoomChangedEvent;
+import com.hotel.roommanagement.event.RoomTypeChangedEvent;
+import com.hotel.roommanagement.repository.OutboxEventRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records room and room type changes in the outbox
+ *
+ * Runs just before the publishing transaction commits, so each outbox
+ * entry is written in the same transaction as its change and commits or
+ * rolls back with it. Pending changes of the transaction are flushed
+ * before its first entry, so dirty-checked updates lock their rows before
+ * any outbox ID is drawn. The entries themselves are flushed together
+ * with Hibernate's JDBC batching, even when the publisher clears its
+ * persistence context between chunks (bulk import). OutboxRelay delivers
+ * them downstream.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRoomChanged(RoomChangedEvent event) {
+        record(OutboxAggregateType.ROOM, event.getRoomId(), event.getChangeType(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRoomTypeChanged(RoomTypeChangedEvent event) {
+        record(OutboxAggregateType.ROOM_TYPE, event.getRoomTypeId(), event.getChangeType(), event);
+    }
+
+    private void record(OutboxAggregateType aggregateType, Long aggregateId, RoomChangeType eventType, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            // Fails the transaction rather than losing the change downstream
+            throw new IllegalStateException("Could not serialize " + aggregateType + " change " + aggregateId, e);
+        }
+
+        flushChangesOnce();
+        outboxEventRepository.save(OutboxEvent.builder()
+            .aggregateType(aggregateType)
+            .aggregateId(aggregateId)
+            .eventType(eventType)
+            .payload(payload)
+            .build());
+    }
+
+    /**
+     * Flush the changes made so far, once per transaction, so later entries still batch
+     */
+    private void flushChangesOnce() {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+            }
+        });
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,250 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.dto.ReservationDto;
+import com.hotel.roommanagement.entity.Reservation;
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.entity.RoomType;
+import com.hotel.roommanagement.enums.ReservationStatus;
+import com.hotel.roommanagement.event.ReservationChangedEvent;
+import com.hotel.roommanagement.event.RoomChangedEvent;
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import com.hotel.roommanagement.exception.ReservationConflictException;
+import com.hotel.roommanagement.exception.ResourceNotFoundException;
+import com.hotel.roommanagement.mapper.ReservationMapper;
+import com.hotel.roommanagement.repository.ReservationRepository;
+import com.hotel.roommanagement.repository.RoomRepository;
+import com.hotel.roommanagement.repository.RoomTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service class for Reservation operations
+ *
+ * Books rooms for date ranges and answers availability searches from the
+ * in-memory {@link AvailabilityIndex}. Overlapping bookings are rejected
+ * twice: the room row is locked and checked for overlapping reservations
+ * in the database, which also covers other application instances, and the
+ * nights are held in the index before the reservation is written.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ReservationService {
+
+    private final ReservationRepository reservationRepository;
+    private final RoomRepository roomRepository;
+    private final RoomTypeRepository roomTypeRepository;
+    private final ReservationMapper reservationMapper;
+    private final AvailabilityIndex availabilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.reservations.max-nights:90}")
+    private int maxNights;
+
+    /**
+     * Get reservation by ID
+     */
+    public ReservationDto.Response getReservationById(Long id) {
+        log.debug("Getting reservation by ID: {}", id);
+
+        return reservationMapper.toResponse(findReservationById(id));
+    }
+
+    /**
+     * Get confirmed reservations of a room that have not ended yet
+     */
+    public List<ReservationDto.Response> getUpcomingReservations(Long roomId) {
+        log.debug("Getting upcoming reservations for room ID: {}", roomId);
+
+        if (!roomRepository.existsById(roomId)) {
+            throw new ResourceNotFoundException("Room not found with ID: " + roomId);
+        }
+
+        return reservationMapper.toResponses(reservationRepository.findUpcomingByRoom(roomId, LocalDate.now()));
+    }
+
+    /**
+     * Find rooms free for every night of a stay, optionally of one room type
+     *
+     * Served from memory, so no transaction is started.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ReservationDto.AvailabilityResponse getAvailability(Long roomTypeId, LocalDate checkIn, LocalDate checkOut) {
+        validateStay(checkIn, checkOut);
+
+        List<ReservationDto.AvailableRoom> rooms = availabilityIndex.findAvailable(roomTypeId, checkIn, checkOut).stream()
+            .map(this::toAvailableRoom)
+            .toList();
+
+        return ReservationDto.AvailabilityResponse.builder()
+            .checkIn(checkIn)
+            .checkOut(checkOut)
+            .nights(ChronoUnit.DAYS.between(checkIn, checkOut))
+            .roomTypeId(roomTypeId)
+            .totalAvailable(rooms.size())
+            .rooms(rooms)
+            .build();
+    }
+
+    /**
+     * Book a room for a stay
+     *
+     * Books the requested room, or the first free room of the requested
+     * room type.
+     */
+    @Transactional
+    public ReservationDto.Response createReservation(ReservationDto.CreateRequest request) {
+        log.info("Creating reservation for room ID {} / room type ID {} from {} to {}",
+            request.getRoomId(), request.getRoomTypeId(), request.getCheckIn(), request.getCheckOut());
+
+        validateStay(request.getCheckIn(), request.getCheckOut());
+        if ((request.getRoomId() == null) == (request.getRoomTypeId() == null)) {
+            throw new BusinessLogicException("Specify either a room or a room type");
+        }
+
+        Room room = request.getRoomId() != null ? reserveRoom(request) : reserveAnyRoomOfType(request);
+
+        Reservation reservation = reservationMapper.toEntity(request);
+        reservation.setRoomId(room.getId());
+        reservation.setStatus(ReservationStatus.CONFIRMED);
+        reservation.setRoom(room);
+
+        Reservation savedReservation = reservationRepository.save(reservation);
+        log.info("Created reservation with ID: {} for room {}", savedReservation.getId(), room.getRoomNumber());
+
+        eventPublisher.publishEvent(ReservationChangedEvent.of(savedReservation));
+
+        return reservationMapper.toResponse(savedReservation);
+    }
+
+    /**
+     * Cancel a reservation and release its nights once the cancellation commits
+     */
+    @Transactional
+    public ReservationDto.Response cancelReservation(Long id) {
+        log.info("Cancelling reservation ID: {}", id);
+
+        Reservation reservation = findReservationById(id);
+        if (!reservation.isConfirmed()) {
+            throw new BusinessLogicException("Reservation " + id + " is already " + reservation.getStatus());
+        }
+
+        reservation.setStatus(ReservationStatus.CANCELLED);
+        Reservation cancelledReservation = reservationRepository.save(reservation);
+
+        eventPublisher.publishEvent(ReservationChangedEvent.of(cancelledReservation));
+
+        return reservationMapper.toResponse(cancelledReservation);
+    }
+
+    /**
+     * Hold the nights of the requested room
+     */
+    private Room reserveRoom(ReservationDto.CreateRequest request) {
+        Room room = roomRepository.findWithRoomTypeById(request.getRoomId())
+            .orElseThrow(() -> new ResourceNotFoundException("Room not found with ID: " + request.getRoomId()));
+        if (!isBookable(room)) {
+            throw new BusinessLogicException("Room " + room.getRoomNumber() + " cannot be reserved");
+        }
+        validateOccupancy(room.getRoomType(), request.getNumberOfGuests());
+
+        // Reject from memory before queueing on the row lock
+        if (!availabilityIndex.isFree(room.getId(), request.getCheckIn(), request.getCheckOut())) {
+            throw conflict(room);
+        }
+        roomRepository.findByIdForBooking(room.getId());
+        if (!tryHold(room, request.getCheckIn(), request.getCheckOut())) {
+            throw conflict(room);
+        }
+        return room;
+    }
+
+    /**
+     * Hold the nights of the first free room of the requested type
+     *
+     * Rooms whose row is locked by a concurrent booking are skipped rather
+     * than waited for, so concurrent bookings of one type spread over its
+     * free rooms instead of queueing on the same one.
+     */
+    private Room reserveAnyRoomOfType(ReservationDto.CreateRequest request) {
+        RoomType roomType = roomTypeRepository.findById(request.getRoomTypeId())
+            .orElseThrow(() -> new ResourceNotFoundException("Room type not found with ID: " + request.getRoomTypeId()));
+        if (!Boolean.TRUE.equals(roomType.getIsActive())) {
+            throw new BusinessLogicException("Room type " + roomType.getName() + " cannot be reserved");
+        }
+        validateOccupancy(roomType, request.getNumberOfGuests());
+
+        for (RoomChangedEvent.RoomState candidate
+                : availabilityIndex.findAvailable(roomType.getId(), request.getCheckIn(), request.getCheckOut())) {
+            Optional<Room> room = roomRepository.findByIdForBookingSkipLocked(candidate.getId());
+            if (room.isPresent() && isBookable(room.get())
+                    && tryHold(room.get(), request.getCheckIn(), request.getCheckOut())) {
+                return room.get();
+            }
+        }
+        throw new ReservationConflictException("No " + roomType.getName() + " room is available for these nights");
+    }
+
+    /**
+     * Hold the nights of a room whose row lock is held by this transaction
+     *
+     * With the row locked the database check sees every committed booking
+     * of the room, including those made by other application instances.
+     */
+    private boolean tryHold(Room room, LocalDate checkIn, LocalDate checkOut) {
+        return !reservationRepository.existsOverlapping(room.getId(), checkIn, checkOut)
+            && availabilityIndex.hold(room, checkIn, checkOut);
+    }
+
+    private boolean isBookable(Room room) {
+        return Boolean.TRUE.equals(room.getIsActive()) && !room.isOutOfOrder();
+    }
+
+    private void validateOccupancy(RoomType roomType, Integer numberOfGuests) {
+        if (numberOfGuests > roomType.getMaxOccupancy()) {
+            throw new BusinessLogicException(roomType.getName() + " rooms sleep at most "
+                + roomType.getMaxOccupancy() + " guests");
+        }
+    }
+
+    private Reservation findReservationById(Long id) {
+        return reservationRepository.findWithRoomById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Reservation not found with ID: " + id));
+    }
+
+    private void validateStay(LocalDate checkIn, LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) {
+            throw new BusinessLogicException("Check-out date must be after check-in date");
+        }
+        if (checkIn.isBefore(LocalDate.now())) {
+            throw new BusinessLogicException("Check-in date cannot be in the past");
+        }
+        if (ChronoUnit.DAYS.between(checkIn, checkOut) > maxNights) {
+            throw new BusinessLogicException("A stay cannot exceed " + maxNights + " nights");
+        }
+    }
+
+    private ReservationConflictException conflict(Room room) {
+        return new ReservationConflictException("Room " + room.getRoomNumber() + " is already booked for some of these nights");
+    }
+
+    private ReservationDto.AvailableRoom toAvailableRoom(RoomChangedEvent.RoomState room) {
+        return ReservationDto.AvailableRoom.builder()
+            .roomId(room.getId())
+            .roomNumber(room.getRoomNumber())
+            .roomTypeId(room.getRoomTypeId())
+            .floor(room.getFloor())
+            .build();
+    }
+}
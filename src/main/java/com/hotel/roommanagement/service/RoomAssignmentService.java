@@ -0,0 +1,235 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.dto.RoomAssignmentDto;
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import com.hotel.roommanagement.repository.RoomRepository;
+import com.hotel.roommanagement.repository.projection.AssignableRoom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Automatic room assignment for a batch of arrivals
+ *
+ * Loads one snapshot of the available rooms of the requested types and
+ * assigns rooms greedily in memory: arrivals with the most preferences
+ * choose first, each taking the free room of its type with the best
+ * preference score (view type, balcony, floor). Ties go to the lowest
+ * floor and room number. Rooms reserved for tonight are left out.
+ *
+ * Assignments are proposals; room statuses are not changed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RoomAssignmentService {
+
+    private static final double VIEW_MATCH = 3.0;
+    private static final double BALCONY_MATCH = 2.0;
+    private static final double FLOOR_MATCH = 2.0;
+    private static final double FLOOR_DISTANCE_PENALTY = 0.5;
+
+    private final RoomRepository roomRepository;
+    private final AvailabilityIndex availabilityIndex;
+
+    @Value("${app.rooms.assignment.max-arrivals:5000}")
+    private int maxArrivals;
+
+    /**
+     * Assign rooms to a batch of arrivals
+     */
+    public RoomAssignmentDto.Response assignRooms(List<RoomAssignmentDto.Arrival> arrivals) {
+        if (arrivals.size() > maxArrivals) {
+            throw new BusinessLogicException("Cannot assign more than " + maxArrivals + " arrivals at once");
+        }
+        long started = System.nanoTime();
+
+        Map<Long, RoomPool> poolsByType = snapshot(arrivals.stream()
+            .map(RoomAssignmentDto.Arrival::getRoomTypeId)
+            .collect(Collectors.toSet()));
+
+        // Most demanding arrivals first so flexible ones do not take the rooms they need
+        int[] order = IntStream.range(0, arrivals.size())
+            .boxed()
+            .sorted(Comparator.comparingInt((Integer i) -> -preferenceCount(arrivals.get(i))))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        RoomAssignmentDto.Assignment[] assignments = new RoomAssignmentDto.Assignment[arrivals.size()];
+        int assigned = 0;
+        for (int i : order) {
+            RoomAssignmentDto.Arrival arrival = arrivals.get(i);
+            RoomPool pool = poolsByType.getOrDefault(arrival.getRoomTypeId(), RoomPool.EMPTY);
+            Preferences preferences = new Preferences(arrival, pool);
+            Candidate best = null;
+            double bestScore = -1;
+
+            for (Candidate room : pool.rooms) {
+                if (room.taken) {
+                    continue;
+                }
+                double score = preferences.score(room);
+                if (score > bestScore) {
+                    best = room;
+                    bestScore = score;
+                    if (score == preferences.maxScore) {
+                        break;
+                    }
+                }
+            }
+
+            RoomAssignmentDto.Assignment.AssignmentBuilder assignment = RoomAssignmentDto.Assignment.builder()
+                .reference(arrival.getReference());
+            if (best != null) {
+                best.taken = true;
+                assigned++;
+                assignment.roomId(best.room.getId())
+                    .roomNumber(best.room.getRoomNumber())
+                    .floor(best.room.getFloor())
+                    .viewType(best.room.getViewType())
+                    .hasBalcony(best.room.getHasBalcony())
+                    .score(bestScore);
+            }
+            assignments[i] = assignment.build();
+        }
+
+        long durationMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Assigned rooms to {} of {} arrivals in {} ms", assigned, arrivals.size(), durationMillis);
+
+        return RoomAssignmentDto.Response.builder()
+            .assigned(assigned)
+            .unassigned(arrivals.size() - assigned)
+            .durationMillis(durationMillis)
+            .assignments(Arrays.asList(assignments))
+            .build();
+    }
+
+    private Map<Long, RoomPool> snapshot(Set<Long> roomTypeIds) {
+        LocalDate today = LocalDate.now();
+        LocalDate tomorrow = today.plusDays(1);
+
+        Map<Long, RoomPool> poolsByType = new HashMap<>();
+        for (AssignableRoom room : roomRepository.findAssignableRooms(roomTypeIds)) {
+            if (availabilityIndex.isFree(room.getId(), today, tomorrow)) {
+                poolsByType.computeIfAbsent(room.getRoomTypeId(), id -> new RoomPool()).add(room);
+            }
+        }
+        return poolsByType;
+    }
+
+    private static int preferenceCount(RoomAssignmentDto.Arrival arrival) {
+        int count = 0;
+        if (arrival.getViewType() != null && !arrival.getViewType().isBlank()) {
+            count++;
+        }
+        if (arrival.getBalcony() != null) {
+            count++;
+        }
+        if (arrival.getFloor() != null) {
+            count++;
+        }
+        return count;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? null : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Free rooms of one type, with their distinct view types numbered
+     * so the scoring loop compares integers instead of strings
+     */
+    private static class RoomPool {
+
+        static final RoomPool EMPTY = new RoomPool();
+
+        final List<Candidate> rooms = new ArrayList<>();
+        final List<String> viewTypes = new ArrayList<>();
+        final Map<String, Integer> viewIds = new HashMap<>();
+
+        void add(AssignableRoom room) {
+            String viewType = normalize(room.getViewType());
+            int viewId = viewType == null ? -1 : viewIds.computeIfAbsent(viewType, view -> {
+                viewTypes.add(view);
+                return viewTypes.size() - 1;
+            });
+            rooms.add(new Candidate(room, viewId));
+        }
+    }
+
+    /**
+     * Room in the snapshot; taken once assigned
+     */
+    private static class Candidate {
+
+        final AssignableRoom room;
+        final int floor;
+        final int viewId;
+        final boolean balcony;
+        boolean taken;
+
+        Candidate(AssignableRoom room, int viewId) {
+            this.room = room;
+            this.floor = room.getFloor();
+            this.viewId = viewId;
+            this.balcony = Boolean.TRUE.equals(room.getHasBalcony());
+        }
+    }
+
+    /**
+     * Preferences of one arrival, resolved against a room pool once for the scoring loop
+     */
+    private static class Preferences {
+
+        final boolean[] viewMatches;
+        final Boolean balcony;
+        final Integer floor;
+        final double maxScore;
+
+        Preferences(RoomAssignmentDto.Arrival arrival, RoomPool pool) {
+            String viewType = normalize(arrival.getViewType());
+            if (viewType != null && !viewType.isEmpty()) {
+                viewMatches = new boolean[pool.viewTypes.size()];
+                for (int i = 0; i < viewMatches.length; i++) {
+                    viewMatches[i] = pool.viewTypes.get(i).contains(viewType);
+                }
+            } else {
+                viewMatches = null;
+            }
+            this.balcony = arrival.getBalcony();
+            this.floor = arrival.getFloor();
+            this.maxScore = (viewMatches != null ? VIEW_MATCH : 0)
+                + (balcony != null ? BALCONY_MATCH : 0)
+                + (floor != null ? FLOOR_MATCH : 0);
+        }
+
+        double score(Candidate room) {
+            double score = 0;
+            if (viewMatches != null && room.viewId >= 0 && viewMatches[room.viewId]) {
+                score += VIEW_MATCH;
+            }
+            if (balcony != null && balcony == room.balcony) {
+                score += BALCONY_MATCH;
+            }
+            if (floor != null) {
+                score += Math.max(0, FLOOR_MATCH - FLOOR_DISTANCE_PENALTY * Math.abs(floor - room.floor));
+            }
+            return score;
+        }
+    }
+}
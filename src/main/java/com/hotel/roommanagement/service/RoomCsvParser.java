@@ -0,0 +1,212 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.exception.BulkValidationException;
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parser for room import CSV files
+ * 
+ * Expects a header row naming the columns (roomNumber, roomTypeId, floor,
+ * viewType, hasBalcony, wifiPassword, notes; camelCase or snake_case, any
+ * order). Fields may be quoted with double quotes, with "" as an escaped
+ * quote inside quoted fields; quoted fields may span several lines.
+ * Blank lines are skipped. Each row is identified by the file line it
+ * starts on (1-based, header included), and errors are reported per line.
+ */
+@Component
+public class RoomCsvParser {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("roomnumber", "roomtypeid", "floor");
+
+    /**
+     * Parse CSV content into room creation requests, in file order
+     */
+    public List<Row> parse(String csv) {
+        List<CsvRecord> records = readRecords(csv);
+        
+        if (records.isEmpty()) {
+            throw new BusinessLogicException("CSV import must contain a header row");
+        }
+        
+        Map<String, Integer> columns = parseHeader(records.get(0).getFields());
+        List<Row> rows = new ArrayList<>(records.size() - 1);
+        Map<String, String> errors = new LinkedHashMap<>();
+        
+        for (CsvRecord record : records.subList(1, records.size())) {
+            List<String> fields = record.getFields();
+            try {
+                rows.add(new Row(record.getLine(), RoomDto.CreateRequest.builder()
+                    .roomNumber(field(fields, columns, "roomnumber"))
+                    .roomTypeId(parseLong(field(fields, columns, "roomtypeid")))
+                    .floor(parseInteger(field(fields, columns, "floor")))
+                    .viewType(field(fields, columns, "viewtype"))
+                    .hasBalcony(parseBoolean(field(fields, columns, "hasbalcony")))
+                    .wifiPassword(field(fields, columns, "wifipassword"))
+                    .notes(field(fields, columns, "notes"))
+                    .build()));
+            } catch (IllegalArgumentException ex) {
+                errors.put(lineKey(record.getLine()), ex.getMessage());
+            }
+        }
+        
+        if (!errors.isEmpty()) {
+            throw new BulkValidationException("CSV import contains " + errors.size() + " malformed rows", errors);
+        }
+        return rows;
+    }
+
+    /**
+     * Error key for a row starting on the given file line
+     */
+    public static String lineKey(int line) {
+        return "lines[" + line + "]";
+    }
+
+    private Map<String, Integer> parseHeader(List<String> headers) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            columns.put(normalize(headers.get(i)), i);
+        }
+        
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new BusinessLogicException("CSV header is missing required column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private String normalize(String header) {
+        return header.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Long parseLong(String value) {
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number: " + value);
+        }
+    }
+
+    private Integer parseInteger(String value) {
+        try {
+            return value != null ? Integer.valueOf(value) : null;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number: " + value);
+        }
+    }
+
+    private Boolean parseBoolean(String value) {
+        if (value == null) {
+            return null;
+        }
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return Boolean.valueOf(value);
+        }
+        throw new IllegalArgumentException("Invalid boolean: " + value);
+    }
+
+    /**
+     * Split CSV content into records, keeping quote state across line breaks
+     */
+    private List<CsvRecord> readRecords(String csv) {
+        List<CsvRecord> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean sawQuote = false;
+        int line = 1;
+        int recordLine = 1;
+        int quoteLine = 1;
+        
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    if (c == '\n' || (c == '\r' && (i + 1 == csv.length() || csv.charAt(i + 1) != '\n'))) {
+                        line++;
+                    }
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                sawQuote = true;
+                quoteLine = line;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                addRecord(records, recordLine, fields, current, sawQuote);
+                fields = new ArrayList<>();
+                current.setLength(0);
+                sawQuote = false;
+                line++;
+                recordLine = line;
+            } else {
+                current.append(c);
+            }
+        }
+        
+        if (quoted) {
+            throw new BulkValidationException("CSV import contains an unterminated quoted field",
+                Map.of(lineKey(quoteLine), "Quoted field is not closed before the end of the file"));
+        }
+        addRecord(records, recordLine, fields, current, sawQuote);
+        return records;
+    }
+
+    private void addRecord(List<CsvRecord> records, int line, List<String> fields, StringBuilder current,
+                           boolean sawQuote) {
+        // Blank lines keep their line number but produce no record
+        if (fields.isEmpty() && !sawQuote && current.toString().isBlank()) {
+            return;
+        }
+        fields.add(current.toString());
+        records.add(new CsvRecord(line, fields));
+    }
+
+    /**
+     * A parsed room creation request and the file line its row starts on
+     */
+    @Value
+    public static class Row {
+        int line;
+        RoomDto.CreateRequest request;
+    }
+
+    /**
+     * The raw fields of one CSV record
+     */
+    @Value
+    private static class CsvRecord {
+        int line;
+        List<String> fields;
+    }
+}
@@ -0,0 +1,55 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (floor, room number, id) ordering of rooms
+ *
+ * Encoded for clients as an opaque URL-safe token.
+ */
+@Value
+public class RoomCursor {
+
+    private static final String SEPARATOR = "|";
+
+    Integer floor;
+    String roomNumber;
+    Long id;
+
+    /**
+     * Position just after the given room
+     */
+    public static RoomCursor after(Room room) {
+        return new RoomCursor(room.getFloor(), room.getRoomNumber(), room.getId());
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     */
+    public static RoomCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // Room number goes last so it may itself contain the separator
+            String[] parts = decoded.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Expected 3 cursor components");
+            }
+            return new RoomCursor(Integer.valueOf(parts[0]), parts[2], Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessLogicException("Invalid cursor: " + token);
+        }
+    }
+
+    /**
+     * Encode as an opaque URL-safe token
+     */
+    public String encode() {
+        String raw = floor + SEPARATOR + id + SEPARATOR + roomNumber;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
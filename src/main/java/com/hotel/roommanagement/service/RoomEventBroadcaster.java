@@ -0,0 +1,377 @@
+package com.hotel.roommanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.event.RoomChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-Sent Events fan-out of committed room changes
+ *
+ * Room change events are numbered in commit order and kept in a bounded
+ * history, so reconnecting clients resume after their Last-Event-ID.
+ * Clients whose ID has already left the history, or was issued by an
+ * earlier run of the application, get a {@code resync} event and should
+ * reload their room listing.
+ *
+ * Committing threads only append to per-client bounded buffers; a shared
+ * dispatcher writes to the connections. It is a fixed pool of platform
+ * threads, or virtual threads when those are enabled. A client whose
+ * buffer fills up, or whose connection accepts nothing for longer than
+ * the write timeout, is disconnected rather than slowing down other
+ * clients or the writers, and catches up from the history when it
+ * reconnects.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomEventBroadcaster {
+
+    public static final String ROOM_EVENT = "room";
+    public static final String RESYNC_EVENT = "resync";
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+
+    @Value("${app.rooms.events.history-size:1000}")
+    private int historySize;
+
+    @Value("${app.rooms.events.client-buffer:256}")
+    private int clientBuffer;
+
+    @Value("${app.rooms.events.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${app.rooms.events.reconnect-delay:PT3S}")
+    private Duration reconnectDelay;
+
+    @Value("${app.rooms.events.dispatcher-threads:4}")
+    private int dispatcherThreads;
+
+    @Value("${app.rooms.events.write-timeout:PT10S}")
+    private Duration writeTimeout;
+
+    private final Deque<RoomDto.Event> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Guarded by {@link #history}. Starts from the startup time in
+     * microseconds, so IDs from an earlier run are always below the
+     * history of this one instead of replaying unrelated events.
+     */
+    private long lastEventId = System.currentTimeMillis() * 1_000;
+
+    private Executor dispatcher;
+    private Counter droppedClients;
+
+    @PostConstruct
+    void initialize() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor("room-events-");
+            virtualThreads.setVirtualThreads(true);
+            dispatcher = virtualThreads;
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(dispatcherThreads);
+            pool.setMaxPoolSize(dispatcherThreads);
+            pool.setThreadNamePrefix("room-events-");
+            pool.setDaemon(true);
+            pool.initialize();
+            dispatcher = pool;
+        }
+
+        Gauge.builder("hotel.rooms.events.subscribers", subscribers, Set::size)
+            .description("Clients connected to the room event stream")
+            .register(meterRegistry);
+        droppedClients = Counter.builder("hotel.rooms.events.dropped")
+            .description("Room event stream clients disconnected for falling behind")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(Subscriber::close);
+        if (dispatcher instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Open an event stream, replaying the events after lastEventId if given
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+
+        emitter.onCompletion(subscriber::ended);
+        emitter.onError(error -> subscriber.ended());
+        // Complete on the container thread, otherwise the timeout is dispatched as an error
+        emitter.onTimeout(() -> {
+            subscriber.ended();
+            emitter.complete();
+        });
+
+        // Replay and registration happen atomically with publishing, so no event is missed or repeated
+        synchronized (history) {
+            subscriber.offer(SseEmitter.event()
+                .reconnectTime(reconnectDelay.toMillis())
+                .comment("room events")
+                .build());
+
+            if (lastEventId != null) {
+                List<RoomDto.Event> missed = eventsAfter(lastEventId);
+                if (missed == null || missed.size() >= clientBuffer) {
+                    log.debug("Room event stream client at event {} must resync", lastEventId);
+                    subscriber.offer(SseEmitter.event()
+                        .id(String.valueOf(this.lastEventId))
+                        .name(RESYNC_EVENT)
+                        .data(this.lastEventId)
+                        .build());
+                } else {
+                    missed.forEach(event -> subscriber.offer(toSseEvent(event)));
+                }
+            }
+            subscribers.add(subscriber);
+        }
+
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * Push a committed room change to all connected clients
+     */
+    @TransactionalEventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        RoomChangedEvent.RoomState before = event.getBefore();
+        RoomChangedEvent.RoomState after = event.getAfter() != null ? event.getAfter() : before;
+
+        RoomDto.Event roomEvent = RoomDto.Event.builder()
+            .changeType(event.getChangeType())
+            .roomId(after.getId())
+            .roomNumber(after.getRoomNumber())
+            .roomTypeId(after.getRoomTypeId())
+            .floor(after.getFloor())
+            .status(after.getStatus())
+            .previousStatus(before != null ? before.getStatus() : null)
+            .isActive(after.isActive())
+            .occurredAt(LocalDateTime.now())
+            .build();
+
+        publish(roomEvent);
+    }
+
+    /**
+     * Keep idle connections open through proxies, detect disconnected clients
+     * and drop clients whose connection has stopped accepting writes
+     */
+    @Scheduled(fixedDelayString = "${app.rooms.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.isStalled(now) && subscriber.close()) {
+                log.warn("Disconnected room event stream client whose write stalled for more than {}", writeTimeout);
+                droppedClients.increment();
+            }
+        }
+        broadcast(SseEmitter.event().comment("heartbeat").build());
+    }
+
+    private void publish(RoomDto.Event event) {
+        synchronized (history) {
+            event.setEventId(++lastEventId);
+            history.addLast(event);
+            while (history.size() > historySize) {
+                history.removeFirst();
+            }
+            broadcast(toSseEvent(event));
+        }
+    }
+
+    /**
+     * Queue a built event for every client; built events are immutable and shared
+     */
+    private void broadcast(Set<DataWithMediaType> sseEvent) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(sseEvent)) {
+                subscriber.schedule();
+            } else if (subscriber.close()) {
+                log.warn("Disconnected room event stream client that fell {} events behind", clientBuffer);
+                droppedClients.increment();
+            }
+        }
+    }
+
+    /**
+     * Events after the given ID, or null if some of them are no longer in the history
+     * or the ID was not issued by this run
+     */
+    private List<RoomDto.Event> eventsAfter(long eventId) {
+        if (eventId == lastEventId) {
+            return List.of();
+        }
+        if (eventId > lastEventId || history.isEmpty() || history.peekFirst().getEventId() > eventId + 1) {
+            return null;
+        }
+
+        List<RoomDto.Event> events = new ArrayList<>();
+        for (RoomDto.Event event : history) {
+            if (event.getEventId() > eventId) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Serialize once here instead of once per client
+     */
+    private Set<DataWithMediaType> toSseEvent(RoomDto.Event event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize room event " + event.getEventId(), e);
+        }
+
+        return SseEmitter.event()
+            .id(String.valueOf(event.getEventId()))
+            .name(ROOM_EVENT)
+            .data(json, MediaType.APPLICATION_JSON)
+            .build();
+    }
+
+    /**
+     * One connected client with its bounded buffer of pending events
+     *
+     * At most one dispatcher task drains a subscriber at a time, so events
+     * are written in order. Closing never touches the emitter directly, as
+     * a send blocked on a slow connection holds the emitter's lock; the
+     * emitter's complete and completeWithError would wait for that send.
+     * A stalled send keeps its dispatcher thread until the connection
+     * accepts the data or the container's socket write timeout fails it.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean completed;
+        private volatile boolean sending;
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(clientBuffer);
+        }
+
+        private boolean offer(Set<DataWithMediaType> sseEvent) {
+            return !closed.get() && pending.offer(sseEvent);
+        }
+
+        /**
+         * Whether a send has been in progress for longer than the write timeout
+         */
+        private boolean isStalled(long now) {
+            return sending && now - sendStartedAt > writeTimeout.toNanos();
+        }
+
+        /**
+         * Stop accepting events and let the dispatcher complete the response
+         *
+         * @return whether this call closed the subscriber
+         */
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.remove(this);
+            pending.clear();
+            schedule();
+            return true;
+        }
+
+        /**
+         * The response is finished and must not be written to again
+         */
+        private void ended() {
+            completed = true;
+            closed.set(true);
+            subscribers.remove(this);
+            pending.clear();
+        }
+
+        private void schedule() {
+            if (!completed && draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // Dispatcher shut down
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> sseEvent;
+                while (!closed.get() && (sseEvent = pending.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    sending = true;
+                    emitter.send(sseEvent);
+                    sending = false;
+                }
+                if (closed.get() && !completed) {
+                    completed = true;
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container completes the response
+                log.debug("Room event stream client disconnected: {}", e.getMessage());
+                ended();
+            } finally {
+                sending = false;
+                draining.set(false);
+            }
+
+            // Events offered or a close requested while this task was finishing
+            if (!completed && (closed.get() || !pending.isEmpty())) {
+                schedule();
+            }
+        }
+    }
+}
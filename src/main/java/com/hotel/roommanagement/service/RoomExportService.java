@@ -0,0 +1,117 @@
+package com.hotel.roommanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.enums.ExportFormat;
+import com.hotel.roommanagement.mapper.RoomMapper;
+import com.hotel.roommanagement.repository.RoomRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for streaming room exports
+ *
+ * Rooms are read through a database cursor and written to the output one
+ * at a time, detaching each entity once written, so memory use does not
+ * grow with the number of rooms exported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RoomExportService {
+
+    private static final String CSV_HEADER =
+        "id,roomNumber,floor,status,viewType,hasBalcony,isActive,roomTypeName,currentPrice,displayName";
+
+    /**
+     * Rows written between explicit flushes so clients see steady progress
+     */
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final RoomRepository roomRepository;
+    private final RoomMapper roomMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Write all rooms (active only unless requested otherwise) to the output stream
+     */
+    public long exportRooms(ExportFormat format, boolean includeInactive, OutputStream outputStream) throws IOException {
+        log.info("Exporting rooms as {} (includeInactive={})", format, includeInactive);
+        long started = System.currentTimeMillis();
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(RoomDto.ListItem.class);
+        long count = 0;
+        
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        
+        try (Stream<Room> rooms = roomRepository.streamForExport(includeInactive)) {
+            Iterator<Room> iterator = rooms.iterator();
+            while (iterator.hasNext()) {
+                Room room = iterator.next();
+                RoomDto.ListItem item = roomMapper.toListItem(room);
+                entityManager.detach(room);
+                
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, item);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(item));
+                    writer.write('\n');
+                }
+                
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        
+        log.info("Exported {} rooms in {} ms", count, System.currentTimeMillis() - started);
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, RoomDto.ListItem item) throws IOException {
+        writer.write(String.join(",",
+            csv(item.getId()),
+            csv(item.getRoomNumber()),
+            csv(item.getFloor()),
+            csv(item.getStatus() != null ? item.getStatus().name() : null),
+            csv(item.getViewType()),
+            csv(item.getHasBalcony()),
+            csv(item.getIsActive()),
+            csv(item.getRoomTypeName()),
+            csv(item.getCurrentPrice()),
+            csv(item.getDisplayName())));
+        writer.write('\n');
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
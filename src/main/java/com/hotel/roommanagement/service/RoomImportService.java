@@ -0,0 +1,225 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.entity.RoomType;
+import com.hotel.roommanagement.enums.RoomChangeType;
+import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.event.RoomChangedEvent;
+import com.hotel.roommanagement.exception.BulkValidationException;
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import com.hotel.roommanagement.mapper.RoomMapper;
+import com.hotel.roommanagement.repository.RoomRepository;
+import com.hotel.roommanagement.repository.RoomTypeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Service for bulk room imports
+ *
+ * Imports are all-or-nothing: every row is validated up front with
+ * set-based queries (one lookup for existing room numbers per chunk and one
+ * for the referenced room types) and the whole import is rejected with
+ * per-row errors if any row is invalid. Valid imports are persisted in
+ * chunks matching the JDBC batch size, flushing and clearing the
+ * persistence context between chunks so memory stays flat.
+ *
+ * Errors are keyed by rows[index] for JSON imports and by the file line a
+ * row starts on, lines[line], for CSV imports.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RoomImportService {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final RoomRepository roomRepository;
+    private final RoomTypeRepository roomTypeRepository;
+    private final RoomMapper roomMapper;
+    private final RoomCsvParser csvParser;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${app.rooms.import.max-rows:10000}")
+    private int maxRows;
+
+    /**
+     * Import rooms from a list of creation requests
+     */
+    @Transactional
+    public RoomDto.BulkImportResponse importRooms(List<RoomDto.CreateRequest> requests) {
+        return importRooms(requests, row -> "rows[" + row + "]");
+    }
+
+    /**
+     * Import rooms from CSV content with a header row
+     */
+    @Transactional
+    public RoomDto.BulkImportResponse importRoomsFromCsv(String csv) {
+        List<RoomCsvParser.Row> rows = csvParser.parse(csv);
+        List<RoomDto.CreateRequest> requests = rows.stream().map(RoomCsvParser.Row::getRequest).toList();
+        return importRooms(requests, row -> RoomCsvParser.lineKey(rows.get(row).getLine()));
+    }
+
+    private RoomDto.BulkImportResponse importRooms(List<RoomDto.CreateRequest> requests, IntFunction<String> rowKeys) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessLogicException("Bulk import must contain at least one room");
+        }
+        if (requests.size() > maxRows) {
+            throw new BusinessLogicException("Bulk import cannot exceed " + maxRows + " rooms");
+        }
+        
+        log.info("Importing {} rooms", requests.size());
+        long started = System.nanoTime();
+        
+        validate(requests, rowKeys);
+        List<Long> ids = persist(requests);
+        
+        long elapsedNanos = System.nanoTime() - started;
+        long durationMillis = elapsedNanos / 1_000_000;
+        double roomsPerSecond = elapsedNanos > 0 ? ids.size() * 1_000_000_000.0 / elapsedNanos : 0.0;
+        
+        log.info("Imported {} rooms in {} ms ({} rooms/s)",
+            ids.size(), durationMillis, String.format("%.1f", roomsPerSecond));
+        
+        return RoomDto.BulkImportResponse.builder()
+            .created(ids.size())
+            .ids(ids)
+            .durationMillis(durationMillis)
+            .roomsPerSecond(roomsPerSecond)
+            .build();
+    }
+
+    private void validate(List<RoomDto.CreateRequest> requests, IntFunction<String> rowKeys) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        
+        // Bean validation per row
+        for (int i = 0; i < requests.size(); i++) {
+            RoomDto.CreateRequest request = requests.get(i);
+            if (request == null) {
+                errors.put(rowKey(rowKeys.apply(i), null), "Row must not be empty");
+                continue;
+            }
+            for (ConstraintViolation<RoomDto.CreateRequest> violation : validator.validate(request)) {
+                errors.putIfAbsent(rowKey(rowKeys.apply(i), violation.getPropertyPath().toString()),
+                    violation.getMessage());
+            }
+        }
+        
+        // Duplicate room numbers within the import
+        Map<String, Integer> firstRowByNumber = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            RoomDto.CreateRequest request = requests.get(i);
+            if (request == null || request.getRoomNumber() == null) {
+                continue;
+            }
+            Integer firstRow = firstRowByNumber.putIfAbsent(request.getRoomNumber(), i);
+            if (firstRow != null) {
+                errors.put(rowKey(rowKeys.apply(i), "roomNumber"), "Duplicate room number '" +
+                    request.getRoomNumber() + "' (first seen in " + rowKeys.apply(firstRow) + ")");
+            }
+        }
+        
+        // Room numbers already in the database
+        Set<String> existingNumbers = findExistingRoomNumbers(firstRowByNumber.keySet());
+        if (!existingNumbers.isEmpty()) {
+            for (int i = 0; i < requests.size(); i++) {
+                RoomDto.CreateRequest request = requests.get(i);
+                if (request != null && existingNumbers.contains(request.getRoomNumber())) {
+                    errors.putIfAbsent(rowKey(rowKeys.apply(i), "roomNumber"),
+                        "Room with number '" + request.getRoomNumber() + "' already exists");
+                }
+            }
+        }
+        
+        // Referenced room types must exist and be active
+        Set<Long> roomTypeIds = requests.stream()
+            .filter(Objects::nonNull)
+            .map(RoomDto.CreateRequest::getRoomTypeId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, RoomType> roomTypes = roomTypeRepository.findAllById(roomTypeIds).stream()
+            .collect(Collectors.toMap(RoomType::getId, Function.identity()));
+        for (int i = 0; i < requests.size(); i++) {
+            RoomDto.CreateRequest request = requests.get(i);
+            if (request == null || request.getRoomTypeId() == null) {
+                continue;
+            }
+            RoomType roomType = roomTypes.get(request.getRoomTypeId());
+            if (roomType == null) {
+                errors.putIfAbsent(rowKey(rowKeys.apply(i), "roomTypeId"),
+                    "Room type not found with ID: " + request.getRoomTypeId());
+            } else if (!Boolean.TRUE.equals(roomType.getIsActive())) {
+                errors.putIfAbsent(rowKey(rowKeys.apply(i), "roomTypeId"), "Cannot assign room to inactive room type");
+            }
+        }
+        
+        if (!errors.isEmpty()) {
+            throw new BulkValidationException("Bulk import rejected: " + errors.size() + " validation errors", errors);
+        }
+    }
+
+    private Set<String> findExistingRoomNumbers(Set<String> roomNumbers) {
+        Set<String> existing = new HashSet<>();
+        List<String> pending = new ArrayList<>(roomNumbers);
+        for (int from = 0; from < pending.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = pending.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, pending.size()));
+            existing.addAll(roomRepository.findExistingRoomNumbers(chunk));
+        }
+        return existing;
+    }
+
+    private List<Long> persist(List<RoomDto.CreateRequest> requests) {
+        List<Long> ids = new ArrayList<>(requests.size());
+        
+        for (int from = 0; from < requests.size(); from += batchSize) {
+            List<Room> chunk = requests.subList(from, Math.min(from + batchSize, requests.size())).stream()
+                .map(request -> {
+                    Room room = roomMapper.toEntity(request);
+                    room.setStatus(RoomStatus.AVAILABLE);
+                    room.setIsActive(true);
+                    return room;
+                })
+                .toList();
+            
+            roomRepository.saveAll(chunk);
+            entityManager.flush();
+            
+            for (Room room : chunk) {
+                ids.add(room.getId());
+                eventPublisher.publishEvent(RoomChangedEvent.of(RoomChangeType.CREATED, null, room));
+            }
+            entityManager.clear();
+        }
+        return ids;
+    }
+
+    private String rowKey(String row, String field) {
+        return field == null || field.isEmpty() ? row : row + "." + field;
+    }
+}
@@ -0,0 +1,185 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.enums.CacheWriteMode;
+import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.event.RoomChangedEvent;
+import com.hotel.roommanagement.event.RoomTypeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Cache maintenance for the hot room listing endpoints
+ *
+ * RoomService caches its listing methods under the cache names defined here.
+ * This component evicts exactly the entries affected by a room change once
+ * its transaction commits, keyed by status, floor and room type. In
+ * write-through mode the evicted entries are reloaded straight away.
+ *
+ * The keys touched by all room changes of a transaction are collected and
+ * evicted together after it commits, so a bulk change reloads each listing
+ * once rather than once per room.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomListingCache {
+
+    public static final String ACTIVE_ROOMS = "activeRooms";
+    public static final String AVAILABLE_ROOMS = "availableRooms";
+    public static final String AVAILABLE_ROOMS_BY_TYPE = "availableRoomsByType";
+    public static final String ROOMS_BY_STATUS = "roomsByStatus";
+    public static final String ROOMS_BY_FLOOR = "roomsByFloor";
+
+    /**
+     * Key used for listing methods without parameters
+     */
+    public static final String ALL_KEY = "all";
+
+    private static final List<String> CACHE_NAMES = List.of(
+        ACTIVE_ROOMS, AVAILABLE_ROOMS, AVAILABLE_ROOMS_BY_TYPE, ROOMS_BY_STATUS, ROOMS_BY_FLOOR
+    );
+
+    private final CacheManager cacheManager;
+    private final RoomService roomService;
+
+    @Value("${app.cache.room-listings.mode:invalidate-only}")
+    private CacheWriteMode mode;
+
+    /**
+     * Collect the listings a room change can affect until its transaction commits
+     */
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            AffectedListings affected = new AffectedListings();
+            affected.collect(event);
+            evictAndReload(affected);
+            return;
+        }
+
+        AffectedListings affected = (AffectedListings) TransactionSynchronizationManager.getResource(this);
+        if (affected == null) {
+            AffectedListings registered = new AffectedListings();
+            TransactionSynchronizationManager.bindResource(this, registered);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndReload(registered);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RoomListingCache.this);
+                }
+            });
+            affected = registered;
+        }
+        affected.collect(event);
+    }
+
+    /**
+     * Room type names and prices are embedded in every listing, so clear everything
+     */
+    @TransactionalEventListener
+    public void onRoomTypeChanged(RoomTypeChangedEvent event) {
+        log.debug("Clearing room listings after change to room type ID: {}", event.getRoomTypeId());
+
+        CACHE_NAMES.forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+
+    /**
+     * Evict the listings affected by committed room changes
+     */
+    private void evictAndReload(AffectedListings affected) {
+        Set<RoomStatus> statuses = affected.statuses;
+        Set<Integer> floors = affected.floors;
+        Set<Long> availableRoomTypeIds = affected.availableRoomTypeIds;
+
+        if (statuses.isEmpty()) {
+            return;
+        }
+
+        log.debug("Evicting room listings for {} room change(s) (statuses={}, floors={}, types={})",
+            affected.changes, statuses, floors, availableRoomTypeIds);
+
+        evict(ACTIVE_ROOMS, ALL_KEY);
+        statuses.forEach(status -> evict(ROOMS_BY_STATUS, status));
+        floors.forEach(floor -> evict(ROOMS_BY_FLOOR, floor));
+        if (!availableRoomTypeIds.isEmpty()) {
+            evict(AVAILABLE_ROOMS, ALL_KEY);
+            availableRoomTypeIds.forEach(roomTypeId -> evict(AVAILABLE_ROOMS_BY_TYPE, roomTypeId));
+        }
+
+        if (mode == CacheWriteMode.WRITE_THROUGH) {
+            reload(() -> {
+                roomService.getActiveRooms();
+                statuses.forEach(roomService::getRoomsByStatus);
+                floors.forEach(roomService::getRoomsByFloor);
+                if (!availableRoomTypeIds.isEmpty()) {
+                    roomService.getAvailableRooms();
+                    availableRoomTypeIds.forEach(roomService::getAvailableRoomsByType);
+                }
+            });
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void reload(Runnable loader) {
+        try {
+            loader.run();
+        } catch (RuntimeException ex) {
+            // The entry stays evicted and is reloaded on the next read
+            log.warn("Failed to reload room listings after commit: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Listing keys touched by the room changes of one transaction
+     */
+    private static final class AffectedListings {
+
+        private final Set<RoomStatus> statuses = EnumSet.noneOf(RoomStatus.class);
+        private final Set<Integer> floors = new HashSet<>();
+        private final Set<Long> availableRoomTypeIds = new HashSet<>();
+        private int changes;
+
+        private void collect(RoomChangedEvent event) {
+            changes++;
+            // Only active rooms appear in the cached listings
+            Stream.of(event.getBefore(), event.getAfter())
+                .filter(state -> state != null && state.isActive())
+                .forEach(state -> {
+                    statuses.add(state.getStatus());
+                    floors.add(state.getFloor());
+                    if (state.getStatus() == RoomStatus.AVAILABLE) {
+                        availableRoomTypeIds.add(state.getRoomTypeId());
+                    }
+                });
+        }
+    }
+}
@@ -3,22 +3,47 @@ package com.hotel.roommanagement.service;
 import com.hotel.roommanagement.dto.RoomDto;
 import com.hotel.roommanagement.entity.Room;
 import com.hotel.roommanagement.entity.RoomType;
+import com.hotel.roommanagement.enums.RoomChangeType;
 import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.event.RoomChangedEvent;
 import com.hotel.roommanagement.exception.ResourceNotFoundException;
 import com.hotel.roommanagement.exception.DuplicateResourceException;
 import com.hotel.roommanagement.exception.BusinessLogicException;
+import com.hotel.roommanagement.exception.ConcurrentUpdateException;
 import com.hotel.roommanagement.mapper.RoomMapper;
+import com.hotel.roommanagement.mapper.RoomTypeCounts;
 import com.hotel.roommanagement.repository.RoomRepository;
+import com.hotel.roommanagement.repository.RoomSpecifications;
+import com.hotel.roommanagement.repository.RoomStatusBatchRepository;
 import com.hotel.roommanagement.repository.RoomTypeRepository;
+import com.hotel.roommanagement.repository.projection.ResourceVersion;
+import com.hotel.roommanagement.repository.projection.RoomStatusSummary;
+import com.hotel.roommanagement.repository.projection.RoomTypeDistributionCount;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Room operations
@@ -30,11 +55,21 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Timed(value = "hotel.service", histogram = true)
 public class RoomService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Sort KEYSET_ORDER = Sort.by("floor", "roomNumber", "id");
+
     private final RoomRepository roomRepository;
     private final RoomTypeRepository roomTypeRepository;
     private final RoomMapper roomMapper;
+    private final AmenityCatalog amenityCatalog;
+    private final RoomStatisticsTracker statisticsTracker;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.rooms.status-update.max-attempts:3}")
+    private int statusUpdateMaxAttempts;
 
     /**
      * Get all rooms with pagination
@@ -43,12 +78,37 @@ public class RoomService {
         log.debug("Getting all rooms with pagination: {}", pageable);
         
         Page<Room> rooms = roomRepository.findAll(pageable);
-        return rooms.map(roomMapper::toResponse);
+        return toResponsePage(rooms);
+    }
+
+    /**
+     * Get rooms by keyset pagination, ordered by floor, room number and ID
+     *
+     * Each page seeks directly past the cursor position, so deep pages cost
+     * the same as the first. The total count is only computed on request.
+     */
+    public RoomDto.CursorPage getRoomsAfter(String cursor, int size, boolean includeCount) {
+        log.debug("Getting rooms after cursor: {} (size={})", cursor, size);
+        
+        validateCursorPageSize(size);
+        
+        Pageable limit = PageRequest.of(0, size);
+        Slice<Room> rooms;
+        if (cursor == null || cursor.isBlank()) {
+            rooms = roomRepository.findFirstKeysetPage(limit);
+        } else {
+            RoomCursor position = RoomCursor.decode(cursor);
+            rooms = roomRepository.findKeysetPageAfter(
+                position.getFloor(), position.getRoomNumber(), position.getId(), limit);
+        }
+        
+        return toCursorPage(rooms, size, includeCount ? roomRepository.count() : null);
     }
 
     /**
      * Get all active rooms
      */
+    @Cacheable(cacheNames = RoomListingCache.ACTIVE_ROOMS, key = "'" + RoomListingCache.ALL_KEY + "'")
     public List<RoomDto.ListItem> getActiveRooms() {
         log.debug("Getting all active rooms");
         
@@ -63,7 +123,7 @@ public class RoomService {
         log.debug("Getting room by ID: {}", id);
         
         Room room = findRoomById(id);
-        return roomMapper.toResponse(room);
+        return toResponse(room);
     }
 
     /**
@@ -75,7 +135,32 @@ public class RoomService {
         Room room = roomRepository.findByRoomNumber(roomNumber)
             .orElseThrow(() -> new ResourceNotFoundException("Room not found with number: " + roomNumber));
         
-        return roomMapper.toResponse(room);
+        return toResponse(room);
+    }
+
+    /**
+     * Get the ETag of a room representation without loading the room
+     */
+    public String getRoomETag(Long id) {
+        return roomRepository.findVersionById(id)
+            .map(ResourceVersion::toETag)
+            .orElseThrow(() -> new ResourceNotFoundException("Room not found with ID: " + id));
+    }
+
+    /**
+     * Get the ETag of a room representation by room number without loading the room
+     */
+    public String getRoomETagByNumber(String roomNumber) {
+        return roomRepository.findVersionByRoomNumber(roomNumber)
+            .map(ResourceVersion::toETag)
+            .orElseThrow(() -> new ResourceNotFoundException("Room not found with number: " + roomNumber));
+    }
+
+    /**
+     * Get the collection-level ETag shared by all room listings
+     */
+    public String getRoomsETag() {
+        return roomTypeRepository.getCatalogVersion().toETag();
     }
 
     /**
@@ -100,7 +185,9 @@ public class RoomService {
         Room savedRoom = roomRepository.save(room);
         log.info("Created room with ID: {}", savedRoom.getId());
         
-        return roomMapper.toResponse(savedRoom);
+        eventPublisher.publishEvent(RoomChangedEvent.of(RoomChangeType.CREATED, null, savedRoom));
+        
+        return toResponse(savedRoom);
     }
 
     /**
@@ -111,6 +198,7 @@ public class RoomService {
         log.info("Updating room ID: {}", id);
         
         Room existingRoom = findRoomById(id);
+        RoomChangedEvent.RoomState before = RoomChangedEvent.RoomState.of(existingRoom);
         
         // Validate unique room number if changed
         if (request.getRoomNumber() != null && !request.getRoomNumber().equals(existingRoom.getRoomNumber())) {
@@ -129,29 +217,130 @@ public class RoomService {
         Room updatedRoom = roomRepository.save(existingRoom);
         log.info("Updated room ID: {}", id);
         
-        return roomMapper.toResponse(updatedRoom);
+        eventPublisher.publishEvent(RoomChangedEvent.of(RoomChangeType.UPDATED, before, updatedRoom));
+        
+        return toResponse(updatedRoom);
     }
 
     /**
      * Update room status
+     * 
+     * The status is changed with a compare-and-set update guarded by the
+     * status the transition was validated against, so concurrent updates
+     * of the same room can never both succeed. If the status changed in
+     * between, the transition is re-validated against the new status and
+     * retried up to the configured number of attempts.
      */
     @Transactional
     public RoomDto.Response updateRoomStatus(Long id, RoomDto.StatusUpdateRequest request) {
         log.info("Updating room status for ID: {} to {}", id, request.getStatus());
         
-        Room room = findRoomById(id);
+        String notes = request.getNotes() != null && !request.getNotes().trim().isEmpty()
+            ? request.getNotes() : null;
         
-        // Validate status transition
-        validateStatusTransition(room.getStatus(), request.getStatus());
+        for (int attempt = 1; attempt <= statusUpdateMaxAttempts; attempt++) {
+            Room room = findRoomById(id);
+            RoomChangedEvent.RoomState before = RoomChangedEvent.RoomState.of(room);
+            
+            // Validate status transition
+            validateStatusTransition(room.getStatus(), request.getStatus());
+            
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime lastMaintenance = RoomStatus.MAINTENANCE.equals(request.getStatus()) ? now : null;
+            
+            int updated = roomRepository.compareAndSetStatus(
+                id, room.getStatus(), request.getStatus(), notes, lastMaintenance, now);
+            
+            if (updated == 1) {
+                Room updatedRoom = findRoomById(id);
+                log.info("Updated room status for ID: {} to {}", id, request.getStatus());
+                
+                eventPublisher.publishEvent(RoomChangedEvent.of(RoomChangeType.STATUS_CHANGED, before, updatedRoom));
+                return toResponse(updatedRoom);
+            }
+            
+            log.debug("Status of room ID: {} changed concurrently (attempt {}/{})", id, attempt, statusUpdateMaxAttempts);
+        }
+        
+        throw new ConcurrentUpdateException("Room status for ID: " + id + " was modified concurrently");
+    }
+
+    /**
+     * Update the status of many rooms at once
+     * 
+     * Every item is checked against its expected status and the regular
+     * transition rules, then all valid items are applied in one transaction
+     * with a single batched compare-and-set update. Invalid or concurrently
+     * modified items are reported individually and do not abort the batch.
+     */
+    @Transactional
+    public RoomDto.BatchStatusUpdateResponse updateRoomStatuses(RoomDto.BatchStatusUpdateRequest request) {
+        List<RoomDto.BatchStatusUpdateItem> items = request.getItems();
+        log.info("Updating status of {} rooms in batch", items.size());
+        
+        Set<Long> ids = items.stream()
+            .map(RoomDto.BatchStatusUpdateItem::getId)
+            .collect(Collectors.toSet());
+        Map<Long, Room> roomsById = roomRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Room::getId, Function.identity()));
+        
+        LocalDateTime now = LocalDateTime.now();
+        RoomDto.BatchStatusUpdateResult[] results = new RoomDto.BatchStatusUpdateResult[items.size()];
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<RoomStatusBatchRepository.StatusChange> changes = new ArrayList<>();
+        Set<Long> seenIds = new HashSet<>();
+        
+        for (int i = 0; i < items.size(); i++) {
+            RoomDto.BatchStatusUpdateItem item = items.get(i);
+            if (!seenIds.add(item.getId())) {
+                results[i] = batchResult(item.getId(), false, null, "Duplicate room ID in batch");
+                continue;
+            }
+            
+            Room room = roomsById.get(item.getId());
+            String rejection = validateBatchItem(item, room);
+            if (rejection != null) {
+                results[i] = batchResult(item.getId(), false, room != null ? room.getStatus() : null, rejection);
+                continue;
+            }
+            
+            String notes = item.getNotes() != null && !item.getNotes().trim().isEmpty() ? item.getNotes() : null;
+            LocalDateTime lastMaintenance = RoomStatus.MAINTENANCE.equals(item.getNewStatus()) ? now : null;
+            changes.add(new RoomStatusBatchRepository.StatusChange(
+                item.getId(), item.getExpectedStatus(), item.getNewStatus(), notes, lastMaintenance));
+            pendingIndexes.add(i);
+        }
         
-        // Update status
-        room.updateStatus(request.getStatus(), request.getNotes());
+        if (!changes.isEmpty()) {
+            boolean[] applied = roomRepository.batchCompareAndSetStatus(changes, now);
+            
+            for (int j = 0; j < applied.length; j++) {
+                int i = pendingIndexes.get(j);
+                RoomDto.BatchStatusUpdateItem item = items.get(i);
+                RoomChangedEvent.RoomState before = RoomChangedEvent.RoomState.of(roomsById.get(item.getId()));
+                
+                if (applied[j]) {
+                    String notes = changes.get(j).getNotes();
+                    RoomChangedEvent.RoomState after = before.withStatus(item.getNewStatus())
+                        .withNotes(notes != null ? notes : before.getNotes());
+                    results[i] = batchResult(item.getId(), true, item.getNewStatus(), null);
+                    eventPublisher.publishEvent(RoomChangedEvent.of(RoomChangeType.STATUS_CHANGED, before, after));
+                } else {
+                    results[i] = batchResult(item.getId(), false, null, "Room status was modified concurrently");
+                }
+            }
+        }
         
-        // Save
-        Room updatedRoom = roomRepository.save(room);
-        log.info("Updated room status for ID: {} to {}", id, request.getStatus());
+        List<RoomDto.BatchStatusUpdateResult> resultList = List.of(results);
+        int updated = (int) resultList.stream().filter(RoomDto.BatchStatusUpdateResult::getSuccess).count();
+        log.info("Batch status update applied {} of {} changes", updated, items.size());
         
-        return roomMapper.toResponse(updatedRoom);
+        return RoomDto.BatchStatusUpdateResponse.builder()
+            .requested(items.size())
+            .updated(updated)
+            .failed(items.size() - updated)
+            .results(resultList)
+            .build();
     }
 
     /**
@@ -168,10 +357,13 @@ public class RoomService {
             throw new BusinessLogicException("Cannot delete occupied room. Please check out guests first.");
         }
         
+        RoomChangedEvent.RoomState before = RoomChangedEvent.RoomState.of(room);
+        
         // Soft delete
         room.setIsActive(false);
-        roomRepository.save(room);
+        Room deletedRoom = roomRepository.save(room);
         
+        eventPublisher.publishEvent(RoomChangedEvent.of(RoomChangeType.DELETED, before, deletedRoom));
         log.info("Deleted room ID: {}", id);
     }
 
@@ -181,24 +373,44 @@ public class RoomService {
     public Page<RoomDto.Response> searchRooms(RoomDto.FilterRequest filters, Pageable pageable) {
         log.debug("Searching rooms with filters: {}", filters);
         
-        Page<Room> rooms = roomRepository.findRoomsWithFilters(
-            filters.getStatus(),
-            filters.getRoomTypeId(),
-            filters.getFloor(),
-            filters.getViewType(),
-            filters.getHasBalcony(),
-            filters.getMinPrice(),
-            filters.getMaxPrice(),
-            filters.getIsActive(),
-            pageable
-        );
+        Page<Room> rooms = roomRepository.findAll(toSpecification(filters), pageable);
+        return toResponsePage(rooms);
+    }
+
+    /**
+     * Search rooms with filters by keyset pagination, ordered by floor, room number and ID
+     *
+     * Uses the same cursor as {@link #getRoomsAfter}; one extra row is read
+     * instead of a count query to tell whether another page follows.
+     */
+    public RoomDto.CursorPage searchRoomsAfter(RoomDto.FilterRequest filters, String cursor, 
+                                               int size, boolean includeCount) {
+        log.debug("Searching rooms with filters: {} after cursor: {} (size={})", filters, cursor, size);
+        
+        validateCursorPageSize(size);
+        
+        Specification<Room> specification = toSpecification(filters);
+        Specification<Room> pageSpecification = specification;
+        if (cursor != null && !cursor.isBlank()) {
+            RoomCursor position = RoomCursor.decode(cursor);
+            pageSpecification = specification.and(
+                RoomSpecifications.after(position.getFloor(), position.getRoomNumber(), position.getId()));
+        }
+        
+        // Fetch the room type with the page, like the entity graphs of the other listings
+        List<Room> fetched = roomRepository.findBy(pageSpecification, 
+            query -> query.project("roomType").sortBy(KEYSET_ORDER).limit(size + 1).all());
+        boolean hasNext = fetched.size() > size;
+        Slice<Room> rooms = new SliceImpl<>(
+            hasNext ? fetched.subList(0, size) : fetched, PageRequest.of(0, size, KEYSET_ORDER), hasNext);
         
-        return rooms.map(roomMapper::toResponse);
+        return toCursorPage(rooms, size, includeCount ? roomRepository.count(specification) : null);
     }
 
     /**
      * Get available rooms
      */
+    @Cacheable(cacheNames = RoomListingCache.AVAILABLE_ROOMS, key = "'" + RoomListingCache.ALL_KEY + "'")
     public List<RoomDto.ListItem> getAvailableRooms() {
         log.debug("Getting available rooms");
         
@@ -209,6 +421,7 @@ public class RoomService {
     /**
      * Get available rooms by room type
      */
+    @Cacheable(cacheNames = RoomListingCache.AVAILABLE_ROOMS_BY_TYPE, key = "#roomTypeId")
     public List<RoomDto.ListItem> getAvailableRoomsByType(Long roomTypeId) {
         log.debug("Getting available rooms by type: {}", roomTypeId);
         
@@ -222,6 +435,7 @@ public class RoomService {
     /**
      * Get rooms by status
      */
+    @Cacheable(cacheNames = RoomListingCache.ROOMS_BY_STATUS, key = "#status")
     public List<RoomDto.ListItem> getRoomsByStatus(RoomStatus status) {
         log.debug("Getting rooms by status: {}", status);
         
@@ -232,6 +446,7 @@ public class RoomService {
     /**
      * Get rooms by floor
      */
+    @Cacheable(cacheNames = RoomListingCache.ROOMS_BY_FLOOR, key = "#floor")
     public List<RoomDto.ListItem> getRoomsByFloor(Integer floor) {
         log.debug("Getting rooms by floor: {}", floor);
         
@@ -252,37 +467,52 @@ public class RoomService {
 
     /**
      * Get room statistics
+     * 
+     * Served from the in-memory statistics tracker once it has been built,
+     * falling back to aggregate queries until then.
      */
     public RoomDto.Statistics getRoomStatistics() {
         log.debug("Getting room statistics");
         
-        long totalRooms = roomRepository.countByIsActiveTrue();
-        long availableRooms = roomRepository.countByStatusAndIsActiveTrue(RoomStatus.AVAILABLE);
-        long occupiedRooms = roomRepository.countByStatusAndIsActiveTrue(RoomStatus.OCCUPIED);
-        long maintenanceRooms = roomRepository.countByStatusAndIsActiveTrue(RoomStatus.MAINTENANCE);
-        long outOfOrderRooms = roomRepository.countByStatusAndIsActiveTrue(RoomStatus.OUT_OF_ORDER);
-        
-        Double occupancyRate = roomRepository.getOccupancyRate();
-        if (occupancyRate == null) occupancyRate = 0.0;
+        return statisticsTracker.getStatistics().orElseGet(this::loadRoomStatistics);
+    }
+
+    /**
+     * Load room statistics from the database
+     */
+    private RoomDto.Statistics loadRoomStatistics() {
+        RoomStatusSummary summary = roomRepository.getRoomStatusSummary();
+        long totalRooms = summary.getTotalRooms();
+        long occupiedRooms = summary.getOccupiedRooms();
+        double occupancyRate = totalRooms > 0 ? (occupiedRooms * 100.0) / totalRooms : 0.0;
         
         // Get room type distribution
-        List<Object[]> typeStats = roomRepository.getRoomStatisticsByType();
+        List<RoomTypeDistributionCount> typeStats = roomRepository.getRoomStatisticsByType();
         List<RoomDto.Statistics.RoomTypeDistribution> distribution = typeStats.stream()
             .map(stat -> RoomDto.Statistics.RoomTypeDistribution.builder()
-                .typeName((String) stat[0])
-                .count((Long) stat[1])
-                .percentage(totalRooms > 0 ? ((Long) stat[1] * 100.0) / totalRooms : 0.0)
+                .typeName(stat.getTypeName())
+                .count(stat.getRoomCount())
+                .percentage(totalRooms > 0 ? (stat.getRoomCount() * 100.0) / totalRooms : 0.0)
+                .build())
+            .toList();
+        
+        // Get floor distribution
+        List<RoomDto.Statistics.FloorDistribution> floorDistribution = roomRepository.getRoomStatisticsByFloor().stream()
+            .map(stat -> RoomDto.Statistics.FloorDistribution.builder()
+                .floor(stat.getFloor())
+                .count(stat.getRoomCount())
                 .build())
             .toList();
         
         return RoomDto.Statistics.builder()
             .totalRooms(totalRooms)
-            .availableRooms(availableRooms)
+            .availableRooms(summary.getAvailableRooms())
             .occupiedRooms(occupiedRooms)
-            .maintenanceRooms(maintenanceRooms)
-            .outOfOrderRooms(outOfOrderRooms)
+            .maintenanceRooms(summary.getMaintenanceRooms())
+            .outOfOrderRooms(summary.getOutOfOrderRooms())
             .occupancyRate(occupancyRate)
             .roomTypeDistribution(distribution)
+            .floorDistribution(floorDistribution)
             .build();
     }
 
@@ -300,20 +530,90 @@ public class RoomService {
             throw new BusinessLogicException("Cannot deactivate occupied room. Please check out guests first.");
         }
         
+        RoomChangedEvent.RoomState before = RoomChangedEvent.RoomState.of(room);
         room.setIsActive(!room.getIsActive());
         Room updatedRoom = roomRepository.save(room);
         
+        eventPublisher.publishEvent(RoomChangedEvent.of(RoomChangeType.ACTIVATION_TOGGLED, before, updatedRoom));
+        
         log.info("Toggled status for room ID: {} to {}", id, updatedRoom.getIsActive());
-        return roomMapper.toResponse(updatedRoom);
+        return toResponse(updatedRoom);
     }
 
     // Helper methods
 
     private Room findRoomById(Long id) {
-        return roomRepository.findById(id)
+        return roomRepository.findWithRoomTypeById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Room not found with ID: " + id));
     }
 
+    private RoomDto.Response toResponse(Room room) {
+        return roomMapper.toResponse(room, loadRoomTypeCounts(Set.of(room.getRoomTypeId())));
+    }
+
+    private Page<RoomDto.Response> toResponsePage(Page<Room> rooms) {
+        RoomTypeCounts roomTypeCounts = loadRoomTypeCounts(rooms);
+        return rooms.map(room -> roomMapper.toResponse(room, roomTypeCounts));
+    }
+
+    private Slice<RoomDto.Response> toResponseSlice(Slice<Room> rooms) {
+        RoomTypeCounts roomTypeCounts = loadRoomTypeCounts(rooms);
+        return rooms.map(room -> roomMapper.toResponse(room, roomTypeCounts));
+    }
+
+    private RoomDto.CursorPage toCursorPage(Slice<Room> rooms, int size, Long totalElements) {
+        List<Room> content = rooms.getContent();
+        String nextCursor = rooms.hasNext() && !content.isEmpty()
+            ? RoomCursor.after(content.get(content.size() - 1)).encode()
+            : null;
+        
+        return RoomDto.CursorPage.builder()
+            .content(toResponseSlice(rooms).getContent())
+            .size(size)
+            .hasNext(rooms.hasNext())
+            .nextCursor(nextCursor)
+            .totalElements(totalElements)
+            .build();
+    }
+
+    private Specification<Room> toSpecification(RoomDto.FilterRequest filters) {
+        return Specification
+            .where(RoomSpecifications.hasStatus(filters.getStatus()))
+            .and(RoomSpecifications.isActive(filters.getIsActive()))
+            .and(RoomSpecifications.hasRoomType(filters.getRoomTypeId()))
+            .and(RoomSpecifications.hasRoomTypeIn(findRoomTypesWithAmenities(filters.getAmenities())))
+            .and(RoomSpecifications.onFloor(filters.getFloor()))
+            .and(RoomSpecifications.hasBalcony(filters.getHasBalcony()))
+            .and(RoomSpecifications.viewTypeContains(filters.getViewType()))
+            .and(RoomSpecifications.minPrice(filters.getMinPrice()))
+            .and(RoomSpecifications.maxPrice(filters.getMaxPrice()));
+    }
+
+    private RoomTypeCounts loadRoomTypeCounts(Slice<Room> rooms) {
+        Set<Long> roomTypeIds = rooms.stream()
+            .map(Room::getRoomTypeId)
+            .collect(Collectors.toSet());
+        return loadRoomTypeCounts(roomTypeIds);
+    }
+
+    private Set<Long> findRoomTypesWithAmenities(List<String> amenities) {
+        // Resolved in memory by bitmask; null means no amenity filter
+        return amenities == null || amenities.isEmpty() ? null : amenityCatalog.findRoomTypesWithAll(amenities);
+    }
+
+    private RoomTypeCounts loadRoomTypeCounts(Collection<Long> roomTypeIds) {
+        if (roomTypeIds.isEmpty()) {
+            return RoomTypeCounts.empty();
+        }
+        return RoomTypeCounts.of(roomTypeRepository.countRoomsByRoomTypeIds(roomTypeIds));
+    }
+
+    private void validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BusinessLogicException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+    }
+
     private void validateUniqueRoomNumber(String roomNumber, Long excludeId) {
         boolean exists = excludeId == null 
             ? roomRepository.findByRoomNumber(roomNumber).isPresent()
@@ -333,6 +633,30 @@ public class RoomService {
         }
     }
 
+    private String validateBatchItem(RoomDto.BatchStatusUpdateItem item, Room room) {
+        if (room == null) {
+            return "Room not found with ID: " + item.getId();
+        }
+        if (room.getStatus() != item.getExpectedStatus()) {
+            return String.format("Expected status %s but room is %s", item.getExpectedStatus(), room.getStatus());
+        }
+        try {
+            validateStatusTransition(room.getStatus(), item.getNewStatus());
+        } catch (BusinessLogicException ex) {
+            return ex.getMessage();
+        }
+        return null;
+    }
+
+    private RoomDto.BatchStatusUpdateResult batchResult(Long id, boolean success, RoomStatus status, String message) {
+        return RoomDto.BatchStatusUpdateResult.builder()
+            .id(id)
+            .success(success)
+            .status(status)
+            .message(message)
+            .build();
+    }
+
     private void validateStatusTransition(RoomStatus currentStatus, RoomStatus newStatus) {
         // Define valid status transitions
         boolean isValidTransition = switch (currentStatus) {
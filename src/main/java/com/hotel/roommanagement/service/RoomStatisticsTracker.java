@@ -0,0 +1,272 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.event.RoomChangedEvent;
+import com.hotel.roommanagement.event.RoomTypeChangedEvent;
+import com.hotel.roommanagement.repository.RoomRepository;
+import com.hotel.roommanagement.repository.RoomTypeRepository;
+import com.hotel.roommanagement.repository.projection.RoomCountBucket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory room statistics engine
+ *
+ * Keeps live counters of active rooms per status, room type and floor so
+ * that room statistics can be served without touching the database.
+ * Counters are rebuilt from the database at startup, updated from room
+ * change events after their transaction commits, and periodically
+ * reconciled against the status, room type and floor counts in the database.
+ *
+ * Changes committed while a rebuild reads the database are recorded and
+ * replayed onto the rebuilt counters before they are swapped in, so they
+ * are not lost with the counters they were applied to.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomStatisticsTracker {
+
+    private final RoomRepository roomRepository;
+    private final RoomTypeRepository roomTypeRepository;
+
+    private final Map<Long, String> roomTypeNames = new ConcurrentHashMap<>();
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile Counters counters;
+
+    private volatile Queue<RoomChangedEvent> replayLog;
+
+    /**
+     * Build the counters once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild all counters from the database
+     */
+    public synchronized void rebuild() {
+        log.debug("Rebuilding in-memory room statistics");
+
+        Queue<RoomChangedEvent> recorded = new ConcurrentLinkedQueue<>();
+        replayLog = recorded;
+        try {
+            roomTypeRepository.findAll()
+                .forEach(roomType -> roomTypeNames.put(roomType.getId(), roomType.getName()));
+
+            Counters rebuilt = readCounters();
+
+            swapLock.writeLock().lock();
+            try {
+                recorded.forEach(rebuilt::apply);
+                counters = rebuilt;
+            } finally {
+                replayLog = null;
+                swapLock.writeLock().unlock();
+            }
+
+            log.info("Rebuilt in-memory room statistics: {} active rooms, {} changes replayed",
+                rebuilt.total(), recorded.size());
+        } finally {
+            replayLog = null;
+        }
+    }
+
+    /**
+     * Get room statistics from the in-memory counters, if they have been built
+     */
+    public Optional<RoomDto.Statistics> getStatistics() {
+        Counters current = counters;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        long totalRooms = current.total();
+        long occupiedRooms = current.count(RoomStatus.OCCUPIED);
+
+        List<RoomDto.Statistics.RoomTypeDistribution> typeDistribution = current.byRoomType.entrySet().stream()
+            .filter(entry -> entry.getValue().sum() > 0)
+            .map(entry -> RoomDto.Statistics.RoomTypeDistribution.builder()
+                .typeName(roomTypeNames.get(entry.getKey()))
+                .count(entry.getValue().sum())
+                .percentage(totalRooms > 0 ? (entry.getValue().sum() * 100.0) / totalRooms : 0.0)
+                .build())
+            .sorted(Comparator.comparing(RoomDto.Statistics.RoomTypeDistribution::getTypeName,
+                Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+
+        List<RoomDto.Statistics.FloorDistribution> floorDistribution = current.byFloor.entrySet().stream()
+            .filter(entry -> entry.getValue().sum() > 0)
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> RoomDto.Statistics.FloorDistribution.builder()
+                .floor(entry.getKey())
+                .count(entry.getValue().sum())
+                .build())
+            .toList();
+
+        return Optional.of(RoomDto.Statistics.builder()
+            .totalRooms(totalRooms)
+            .availableRooms(current.count(RoomStatus.AVAILABLE))
+            .occupiedRooms(occupiedRooms)
+            .maintenanceRooms(current.count(RoomStatus.MAINTENANCE))
+            .outOfOrderRooms(current.count(RoomStatus.OUT_OF_ORDER))
+            .occupancyRate(totalRooms > 0 ? (occupiedRooms * 100.0) / totalRooms : 0.0)
+            .roomTypeDistribution(typeDistribution)
+            .floorDistribution(floorDistribution)
+            .build());
+    }
+
+    /**
+     * Apply a committed room change to the counters
+     */
+    @TransactionalEventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            Queue<RoomChangedEvent> recording = replayLog;
+            if (recording != null) {
+                recording.add(event);
+            }
+            Counters current = counters;
+            if (current != null) {
+                current.apply(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keep room type names in sync for the type distribution
+     */
+    @TransactionalEventListener
+    public void onRoomTypeChanged(RoomTypeChangedEvent event) {
+        roomTypeNames.put(event.getRoomTypeId(), event.getName());
+    }
+
+    /**
+     * Compare the in-memory counters with the database and rebuild on drift
+     *
+     * A change committing between the database read and the comparison shows
+     * up as a difference too, so drift only counts when a second read reports
+     * the same difference.
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.reconcile-interval:PT5M}",
+               initialDelayString = "${app.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        if (counters == null) {
+            return;
+        }
+
+        Map<String, Long> drift = readDrift();
+        if (drift.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> confirmed = readDrift();
+        if (!confirmed.equals(drift)) {
+            log.debug("Room statistics difference {} not confirmed by second read {}", drift, confirmed);
+            return;
+        }
+
+        confirmed.forEach((dimension, difference) ->
+            log.warn("Room statistics drift detected for {}: in-memory minus database={}", dimension, difference));
+        rebuild();
+    }
+
+    /**
+     * Differences between the in-memory and the database counters, keyed by dimension
+     */
+    private Map<String, Long> readDrift() {
+        Map<String, Long> expected = readCounters().snapshot();
+        Map<String, Long> actual = counters.snapshot();
+
+        Map<String, Long> drift = new HashMap<>();
+        actual.forEach((dimension, count) -> drift.merge(dimension, count, Long::sum));
+        expected.forEach((dimension, count) -> drift.merge(dimension, -count, Long::sum));
+        drift.values().removeIf(difference -> difference == 0);
+        return drift;
+    }
+
+    private Counters readCounters() {
+        Counters read = new Counters();
+        for (RoomCountBucket bucket : roomRepository.getRoomCountBuckets()) {
+            read.add(bucket.getStatus(), bucket.getRoomTypeId(), bucket.getFloor(), bucket.getRoomCount());
+        }
+        return read;
+    }
+
+    /**
+     * Counter set swapped atomically on rebuild
+     */
+    private static final class Counters {
+
+        private final Map<RoomStatus, LongAdder> byStatus = new EnumMap<>(RoomStatus.class);
+        private final Map<Long, LongAdder> byRoomType = new ConcurrentHashMap<>();
+        private final Map<Integer, LongAdder> byFloor = new ConcurrentHashMap<>();
+
+        private Counters() {
+            // Pre-populate so the EnumMap is never structurally modified after publication
+            for (RoomStatus status : RoomStatus.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+        }
+
+        private void add(RoomStatus status, Long roomTypeId, Integer floor, long delta) {
+            byStatus.get(status).add(delta);
+            byRoomType.computeIfAbsent(roomTypeId, id -> new LongAdder()).add(delta);
+            byFloor.computeIfAbsent(floor, f -> new LongAdder()).add(delta);
+        }
+
+        private void apply(RoomChangedEvent event) {
+            RoomChangedEvent.RoomState before = event.getBefore();
+            RoomChangedEvent.RoomState after = event.getAfter();
+
+            if (before != null && before.isActive()) {
+                add(before.getStatus(), before.getRoomTypeId(), before.getFloor(), -1);
+            }
+            if (after != null && after.isActive()) {
+                add(after.getStatus(), after.getRoomTypeId(), after.getFloor(), 1);
+            }
+        }
+
+        private long count(RoomStatus status) {
+            return byStatus.get(status).sum();
+        }
+
+        private long total() {
+            return byStatus.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        private Map<String, Long> snapshot() {
+            Map<String, Long> snapshot = new HashMap<>();
+            byStatus.forEach((status, count) -> snapshot.put("status " + status.name(), count.sum()));
+            byRoomType.forEach((roomTypeId, count) -> snapshot.put("room type " + roomTypeId, count.sum()));
+            byFloor.forEach((floor, count) -> snapshot.put("floor " + floor, count.sum()));
+            return snapshot;
+        }
+    }
+}
@@ -2,13 +2,19 @@ package com.hotel.roommanagement.service;
 
 import com.hotel.roommanagement.dto.RoomTypeDto;
 import com.hotel.roommanagement.entity.RoomType;
+import com.hotel.roommanagement.enums.RoomChangeType;
+import com.hotel.roommanagement.event.RoomTypeChangedEvent;
 import com.hotel.roommanagement.exception.ResourceNotFoundException;
 import com.hotel.roommanagement.exception.DuplicateResourceException;
 import com.hotel.roommanagement.exception.BusinessLogicException;
+import com.hotel.roommanagement.mapper.RoomTypeCounts;
 import com.hotel.roommanagement.mapper.RoomTypeMapper;
 import com.hotel.roommanagement.repository.RoomTypeRepository;
+import com.hotel.roommanagement.repository.projection.ResourceVersion;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,6 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Room Type operations
@@ -27,10 +35,13 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Timed(value = "hotel.service", histogram = true)
 public class RoomTypeService {
 
     private final RoomTypeRepository roomTypeRepository;
     private final RoomTypeMapper roomTypeMapper;
+    private final AmenityCatalog amenityCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all room types with pagination
@@ -39,7 +50,7 @@ public class RoomTypeService {
         log.debug("Getting all room types with pagination: {}", pageable);
         
         Page<RoomType> roomTypes = roomTypeRepository.findAll(pageable);
-        return roomTypes.map(roomTypeMapper::toResponse);
+        return toResponsePage(roomTypes);
     }
 
     /**
@@ -49,7 +60,7 @@ public class RoomTypeService {
         log.debug("Getting all active room types");
         
         List<RoomType> roomTypes = roomTypeRepository.findByIsActiveTrue();
-        return roomTypeMapper.toListItems(roomTypes);
+        return toListItems(roomTypes);
     }
 
     /**
@@ -59,7 +70,23 @@ public class RoomTypeService {
         log.debug("Getting room type by ID: {}", id);
         
         RoomType roomType = findRoomTypeById(id);
-        return roomTypeMapper.toResponse(roomType);
+        return toResponse(roomType);
+    }
+
+    /**
+     * Get the ETag of a room type representation without loading the room type
+     */
+    public String getRoomTypeETag(Long id) {
+        return roomTypeRepository.findVersionById(id)
+            .map(ResourceVersion::toETag)
+            .orElseThrow(() -> new ResourceNotFoundException("Room type not found with ID: " + id));
+    }
+
+    /**
+     * Get the collection-level ETag shared by all room type listings
+     */
+    public String getRoomTypesETag() {
+        return roomTypeRepository.getCatalogVersion().toETag();
     }
 
     /**
@@ -75,12 +102,15 @@ public class RoomTypeService {
         // Create entity
         RoomType roomType = roomTypeMapper.toEntity(request);
         roomType.setIsActive(true);
+        roomType.setAmenityMask(amenityCatalog.toMask(request.getAmenities()).toByteArray());
         
         // Save
         RoomType savedRoomType = roomTypeRepository.save(roomType);
         log.info("Created room type with ID: {}", savedRoomType.getId());
         
-        return roomTypeMapper.toResponse(savedRoomType);
+        eventPublisher.publishEvent(RoomTypeChangedEvent.of(RoomChangeType.CREATED, savedRoomType));
+        
+        return toResponse(savedRoomType);
     }
 
     /**
@@ -99,12 +129,17 @@ public class RoomTypeService {
         
         // Update entity
         roomTypeMapper.updateEntity(existingRoomType, request);
+        if (request.getAmenities() != null) {
+            existingRoomType.setAmenityMask(amenityCatalog.toMask(request.getAmenities()).toByteArray());
+        }
         
         // Save
         RoomType updatedRoomType = roomTypeRepository.save(existingRoomType);
         log.info("Updated room type ID: {}", id);
         
-        return roomTypeMapper.toResponse(updatedRoomType);
+        eventPublisher.publishEvent(RoomTypeChangedEvent.of(RoomChangeType.UPDATED, updatedRoomType));
+        
+        return toResponse(updatedRoomType);
     }
 
     /**
@@ -116,8 +151,8 @@ public class RoomTypeService {
         
         RoomType roomType = findRoomTypeById(id);
         
-        // Check if room type can be deleted
-        if (!roomType.canBeDeleted()) {
+        // Check if room type can be deleted (no active rooms using this type)
+        if (roomTypeRepository.countActiveRoomsByRoomTypeId(id) > 0) {
             throw new BusinessLogicException(
                 "Cannot delete room type with active rooms. Please deactivate or reassign all rooms first."
             );
@@ -125,8 +160,9 @@ public class RoomTypeService {
         
         // Soft delete
         roomType.setIsActive(false);
-        roomTypeRepository.save(roomType);
+        RoomType deletedRoomType = roomTypeRepository.save(roomType);
         
+        eventPublisher.publishEvent(RoomTypeChangedEvent.of(RoomChangeType.DELETED, deletedRoomType));
         log.info("Deleted room type ID: {}", id);
     }
 
@@ -137,7 +173,7 @@ public class RoomTypeService {
         log.debug("Searching room types with term: {}", searchTerm);
         
         Page<RoomType> roomTypes = roomTypeRepository.searchRoomTypes(searchTerm, pageable);
-        return roomTypes.map(roomTypeMapper::toResponse);
+        return toResponsePage(roomTypes);
     }
 
     /**
@@ -151,7 +187,7 @@ public class RoomTypeService {
         }
         
         List<RoomType> roomTypes = roomTypeRepository.findByPriceRange(minPrice, maxPrice);
-        return roomTypeMapper.toListItems(roomTypes);
+        return toListItems(roomTypes);
     }
 
     /**
@@ -161,7 +197,7 @@ public class RoomTypeService {
         log.debug("Getting room types by minimum occupancy: {}", minOccupancy);
         
         List<RoomType> roomTypes = roomTypeRepository.findByMaxOccupancyGreaterThanEqualAndIsActiveTrue(minOccupancy);
-        return roomTypeMapper.toListItems(roomTypes);
+        return toListItems(roomTypes);
     }
 
     /**
@@ -171,7 +207,7 @@ public class RoomTypeService {
         log.debug("Getting room types with available rooms");
         
         List<RoomType> roomTypes = roomTypeRepository.findRoomTypesWithAvailableRooms();
-        return roomTypeMapper.toListItems(roomTypes);
+        return toListItems(roomTypes);
     }
 
     /**
@@ -184,7 +220,7 @@ public class RoomTypeService {
         RoomType roomType = findRoomTypeById(id);
         
         // If deactivating, check if it has active rooms
-        if (roomType.getIsActive() && roomType.getActiveRoomCount() > 0) {
+        if (roomType.getIsActive() && roomTypeRepository.countActiveRoomsByRoomTypeId(id) > 0) {
             throw new BusinessLogicException(
                 "Cannot deactivate room type with active rooms. Please deactivate all rooms first."
             );
@@ -193,8 +229,9 @@ public class RoomTypeService {
         roomType.setIsActive(!roomType.getIsActive());
         RoomType updatedRoomType = roomTypeRepository.save(roomType);
         
+        eventPublisher.publishEvent(RoomTypeChangedEvent.of(RoomChangeType.ACTIVATION_TOGGLED, updatedRoomType));
         log.info("Toggled status for room type ID: {} to {}", id, updatedRoomType.getIsActive());
-        return roomTypeMapper.toResponse(updatedRoomType);
+        return toResponse(updatedRoomType);
     }
 
     // Helper methods
@@ -204,6 +241,34 @@ public class RoomTypeService {
             .orElseThrow(() -> new ResourceNotFoundException("Room type not found with ID: " + id));
     }
 
+    private RoomTypeDto.Response toResponse(RoomType roomType) {
+        return roomTypeMapper.toResponse(roomType, loadRoomTypeCounts(Set.of(roomType.getId())));
+    }
+
+    private Page<RoomTypeDto.Response> toResponsePage(Page<RoomType> roomTypes) {
+        Set<Long> roomTypeIds = roomTypes.stream()
+            .map(RoomType::getId)
+            .collect(Collectors.toSet());
+        RoomTypeCounts roomTypeCounts = loadRoomTypeCounts(roomTypeIds);
+        
+        return roomTypes.map(roomType -> roomTypeMapper.toResponse(roomType, roomTypeCounts));
+    }
+
+    private List<RoomTypeDto.ListItem> toListItems(List<RoomType> roomTypes) {
+        Set<Long> roomTypeIds = roomTypes.stream()
+            .map(RoomType::getId)
+            .collect(Collectors.toSet());
+        
+        return roomTypeMapper.toListItems(roomTypes, loadRoomTypeCounts(roomTypeIds));
+    }
+
+    private RoomTypeCounts loadRoomTypeCounts(Set<Long> roomTypeIds) {
+        if (roomTypeIds.isEmpty()) {
+            return RoomTypeCounts.empty();
+        }
+        return RoomTypeCounts.of(roomTypeRepository.countRoomsByRoomTypeIds(roomTypeIds));
+    }
+
     private void validateUniqueRoomTypeName(String name, Long excludeId) {
         boolean exists = excludeId == null 
             ? roomTypeRepository.findByNameIgnoreCase(name).isPresent()
@@ -0,0 +1,233 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.dto.SearchDto;
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.entity.RoomType;
+import com.hotel.roommanagement.enums.RoomChangeType;
+import com.hotel.roommanagement.enums.SearchDocumentType;
+import com.hotel.roommanagement.event.RoomChangedEvent;
+import com.hotel.roommanagement.event.RoomTypeChangedEvent;
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import com.hotel.roommanagement.repository.RoomRepository;
+import com.hotel.roommanagement.repository.RoomTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Full-text search over active rooms and room types
+ *
+ * Rooms are indexed by room number and notes, room types by name,
+ * description and amenities. The index lives in memory: it is built from
+ * the database at startup and kept in sync from room and room type change
+ * events once their transaction commits.
+ *
+ * A rebuild loads a fresh index and swaps it in when complete. Changes
+ * committed meanwhile are applied to the live index and recorded, then
+ * replayed onto the fresh index before the swap, so a page read before a
+ * change never overwrites it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private static final Map<String, Double> FIELD_WEIGHTS = Map.of(
+        "roomNumber", 3.0,
+        "name", 3.0,
+        "amenities", 1.5,
+        "description", 1.0,
+        "notes", 1.0
+    );
+
+    private final RoomRepository roomRepository;
+    private final RoomTypeRepository roomTypeRepository;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile TrigramIndex<DocumentKey> index = new TrigramIndex<>(FIELD_WEIGHTS);
+
+    private volatile Queue<Consumer<TrigramIndex<DocumentKey>>> replayLog;
+
+    /**
+     * Build the index once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the index from the database
+     */
+    public synchronized void rebuild() {
+        log.debug("Rebuilding full-text search index");
+        long started = System.currentTimeMillis();
+        
+        Queue<Consumer<TrigramIndex<DocumentKey>>> recorded = new ConcurrentLinkedQueue<>();
+        replayLog = recorded;
+        try {
+            TrigramIndex<DocumentKey> rebuilt = new TrigramIndex<>(FIELD_WEIGHTS);
+            roomTypeRepository.findByIsActiveTrue().forEach(roomType -> indexRoomType(rebuilt, roomType));
+            
+            // Page through rooms by keyset so the rebuild never holds every room at once
+            Pageable page = PageRequest.of(0, REBUILD_PAGE_SIZE);
+            Slice<Room> rooms = roomRepository.findFirstKeysetPage(page);
+            while (true) {
+                rooms.forEach(room -> indexRoom(rebuilt, RoomChangedEvent.RoomState.of(room)));
+                if (!rooms.hasNext() || rooms.getContent().isEmpty()) {
+                    break;
+                }
+                RoomCursor last = RoomCursor.after(rooms.getContent().get(rooms.getContent().size() - 1));
+                rooms = roomRepository.findKeysetPageAfter(last.getFloor(), last.getRoomNumber(), last.getId(), page);
+            }
+            
+            swapLock.writeLock().lock();
+            try {
+                recorded.forEach(change -> change.accept(rebuilt));
+                index = rebuilt;
+            } finally {
+                replayLog = null;
+                swapLock.writeLock().unlock();
+            }
+            
+            log.info("Rebuilt full-text search index: {} documents in {} ms, {} changes replayed",
+                rebuilt.size(), System.currentTimeMillis() - started, recorded.size());
+        } finally {
+            replayLog = null;
+        }
+    }
+
+    /**
+     * Search rooms and room types, best matches first
+     */
+    public SearchDto.Response search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessLogicException("Search query is required");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessLogicException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        
+        long started = System.nanoTime();
+        TrigramIndex.SearchResult<DocumentKey> result = index.search(query, limit);
+        double tookMillis = (System.nanoTime() - started) / 1_000_000.0;
+        
+        log.debug("Search for '{}' matched {} documents in {} ms", query, result.getTotalHits(), tookMillis);
+        
+        List<SearchDto.Hit> hits = result.getMatches().stream()
+            .map(match -> SearchDto.Hit.builder()
+                .type(match.getKey().getType())
+                .id(match.getKey().getId())
+                .title(title(match))
+                .score(match.getScore())
+                .highlights(match.getHighlights())
+                .build())
+            .toList();
+        
+        return SearchDto.Response.builder()
+            .query(query)
+            .totalHits(result.getTotalHits())
+            .tookMillis(tookMillis)
+            .hits(hits)
+            .build();
+    }
+
+    /**
+     * Apply a committed room change to the index
+     */
+    @TransactionalEventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        RoomChangedEvent.RoomState after = event.getAfter();
+        if (after == null || !after.isActive()) {
+            DocumentKey key = new DocumentKey(SearchDocumentType.ROOM, event.getRoomId());
+            apply(target -> target.remove(key));
+        } else {
+            apply(target -> indexRoom(target, after));
+        }
+    }
+
+    /**
+     * Apply a committed room type change to the index
+     */
+    @TransactionalEventListener
+    public void onRoomTypeChanged(RoomTypeChangedEvent event) {
+        apply(target -> indexRoomType(target, event));
+    }
+
+    /**
+     * Apply a change to the live index, recording it for replay while a rebuild runs
+     */
+    private void apply(Consumer<TrigramIndex<DocumentKey>> change) {
+        swapLock.readLock().lock();
+        try {
+            Queue<Consumer<TrigramIndex<DocumentKey>>> recording = replayLog;
+            if (recording != null) {
+                recording.add(change);
+            }
+            change.accept(index);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void indexRoomType(TrigramIndex<DocumentKey> target, RoomType roomType) {
+        indexRoomType(target, RoomTypeChangedEvent.of(RoomChangeType.CREATED, roomType));
+    }
+
+    private void indexRoomType(TrigramIndex<DocumentKey> target, RoomTypeChangedEvent event) {
+        DocumentKey key = new DocumentKey(SearchDocumentType.ROOM_TYPE, event.getRoomTypeId());
+        if (!event.isActive()) {
+            target.remove(key);
+            return;
+        }
+        
+        Map<String, String> fields = new HashMap<>();
+        fields.put("name", event.getName());
+        fields.put("description", event.getDescription());
+        fields.put("amenities", event.getAmenities());
+        target.put(key, fields);
+    }
+
+    private void indexRoom(TrigramIndex<DocumentKey> target, RoomChangedEvent.RoomState room) {
+        if (!room.isActive()) {
+            return;
+        }
+        Map<String, String> fields = new HashMap<>();
+        fields.put("roomNumber", room.getRoomNumber());
+        fields.put("notes", room.getNotes());
+        target.put(new DocumentKey(SearchDocumentType.ROOM, room.getId()), fields);
+    }
+
+    private String title(TrigramIndex.Match<DocumentKey> match) {
+        Map<String, String> fields = match.getFields();
+        return match.getKey().getType() == SearchDocumentType.ROOM
+            ? "Room " + fields.get("roomNumber")
+            : fields.get("name");
+    }
+
+    @Value
+    private static class DocumentKey {
+        SearchDocumentType type;
+        Long id;
+    }
+}
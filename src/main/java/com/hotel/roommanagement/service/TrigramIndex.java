@@ -0,0 +1,396 @@
+package com.hotel.roommanagement.service;
+
+import lombok.Value;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory n-gram inverted index over short text fields
+ *
+ * Every word of every field is indexed by its trigrams plus a word-start
+ * marker, so query terms of three or more characters match anywhere inside
+ * a word and shorter terms match word prefixes. Documents get dense slot
+ * numbers and posting lists are bitsets, so candidates are found by
+ * intersecting bitsets and then verified against the stored text, which
+ * also drives scoring and highlighting. All query terms must match.
+ *
+ * Guarded by a read-write lock: searches run concurrently, writes are
+ * exclusive.
+ *
+ * @param <K> document key type
+ */
+public class TrigramIndex<K> {
+
+    private static final char WORD_START = '\u0002';
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int SNIPPET_CONTEXT = 60;
+
+    private static final double EXACT_WORD = 3.0;
+    private static final double WORD_PREFIX = 2.0;
+    private static final double SUBSTRING = 1.0;
+
+    private final Map<String, Double> fieldWeights;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<K, Integer> slots = new HashMap<>();
+    private final List<IndexedDocument<K>> documents = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    /**
+     * @param fieldWeights score multiplier per field name; unknown fields weigh 1
+     */
+    public TrigramIndex(Map<String, Double> fieldWeights) {
+        this.fieldWeights = Map.copyOf(fieldWeights);
+    }
+
+    /**
+     * Add or replace a document; null or blank field values are skipped
+     */
+    public void put(K key, Map<String, String> fields) {
+        Map<String, String> text = new LinkedHashMap<>();
+        Map<String, String> normalized = new LinkedHashMap<>();
+        Set<String> grams = new HashSet<>();
+        fields.forEach((field, value) -> {
+            if (value != null && !value.isBlank()) {
+                text.put(field, value);
+                normalized.put(field, normalize(value));
+                addGrams(normalized.get(field), grams);
+            }
+        });
+        IndexedDocument<K> document = new IndexedDocument<>(key, text, normalized,
+            normalized.values().toArray(String[]::new),
+            normalized.keySet().stream().mapToDouble(field -> fieldWeights.getOrDefault(field, 1.0)).toArray(),
+            grams);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            int slot = freeSlots.isEmpty() ? documents.size() : freeSlots.pop();
+            if (slot == documents.size()) {
+                documents.add(document);
+            } else {
+                documents.set(slot, document);
+            }
+            slots.put(key, slot);
+            grams.forEach(gram -> postings.computeIfAbsent(gram, g -> new BitSet()).set(slot));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document if present
+     */
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove all documents
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            slots.clear();
+            documents.clear();
+            freeSlots.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the best matching documents for a query
+     */
+    public SearchResult<K> search(String query, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return new SearchResult<>(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = candidates(terms);
+            PriorityQueue<ScoredDocument<K>> top =
+                new PriorityQueue<>(Comparator.comparingDouble(ScoredDocument::getScore));
+            int totalHits = 0;
+
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                IndexedDocument<K> document = documents.get(slot);
+                double score = score(document, terms);
+                if (score <= 0) {
+                    continue;
+                }
+                totalHits++;
+                if (top.size() < limit) {
+                    top.add(new ScoredDocument<>(document, score));
+                } else if (score > top.peek().getScore()) {
+                    top.poll();
+                    top.add(new ScoredDocument<>(document, score));
+                }
+            }
+
+            List<Match<K>> matches = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ScoredDocument<K> scored = top.poll();
+                IndexedDocument<K> document = scored.getDocument();
+                matches.add(0, new Match<>(document.getKey(), document.getFields(), scored.getScore(),
+                    highlight(document, terms)));
+            }
+            return new SearchResult<>(totalHits, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(K key) {
+        Integer slot = slots.remove(key);
+        if (slot == null) {
+            return;
+        }
+        for (String gram : documents.get(slot).getGrams()) {
+            BitSet bits = postings.get(gram);
+            if (bits != null) {
+                bits.clear(slot);
+                if (bits.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        documents.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : WORD_SEPARATOR.split(normalize(query))) {
+            if (!term.isEmpty() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private BitSet candidates(List<String> terms) {
+        BitSet result = null;
+        for (String term : terms) {
+            for (String gram : queryGrams(term)) {
+                BitSet bits = postings.get(gram);
+                if (bits == null) {
+                    return new BitSet();
+                }
+                if (result == null) {
+                    result = (BitSet) bits.clone();
+                } else {
+                    result.and(bits);
+                }
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    private double score(IndexedDocument<K> document, List<String> terms) {
+        String[] texts = document.getNormalizedTexts();
+        double[] weights = document.getWeights();
+        double total = 0;
+        for (String term : terms) {
+            double best = 0;
+            for (int i = 0; i < texts.length; i++) {
+                best = Math.max(best, matchQuality(texts[i], term) * weights[i]);
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private double matchQuality(String text, String term) {
+        double best = 0;
+        for (int from = text.indexOf(term); from >= 0; from = text.indexOf(term, from + 1)) {
+            boolean startsWord = from == 0 || !Character.isLetterOrDigit(text.charAt(from - 1));
+            int end = from + term.length();
+            boolean endsWord = end == text.length() || !Character.isLetterOrDigit(text.charAt(end));
+
+            if (startsWord && endsWord) {
+                return EXACT_WORD;
+            }
+            if (startsWord) {
+                best = Math.max(best, WORD_PREFIX);
+            } else if (term.length() >= 3) {
+                best = Math.max(best, SUBSTRING);
+            }
+        }
+        return best;
+    }
+
+    private Map<String, String> highlight(IndexedDocument<K> document, List<String> terms) {
+        Map<String, String> highlights = new LinkedHashMap<>();
+        document.getFields().forEach((field, value) -> {
+            String text = document.getNormalizedFields().get(field);
+            // Lower-casing can change length for a few scripts; highlight the normalized text then
+            String source = text.length() == value.length() ? value : text;
+
+            boolean[] marked = new boolean[text.length()];
+            boolean any = false;
+            for (String term : terms) {
+                for (int from = text.indexOf(term); from >= 0; from = text.indexOf(term, from + 1)) {
+                    boolean startsWord = from == 0 || !Character.isLetterOrDigit(text.charAt(from - 1));
+                    if (startsWord || term.length() >= 3) {
+                        for (int i = from; i < from + term.length(); i++) {
+                            marked[i] = true;
+                        }
+                        any = true;
+                    }
+                }
+            }
+            if (any) {
+                highlights.put(field, snippet(source, marked));
+            }
+        });
+        return highlights;
+    }
+
+    private String snippet(String text, boolean[] marked) {
+        int first = 0;
+        while (!marked[first]) {
+            first++;
+        }
+        int start = Math.max(0, first - SNIPPET_CONTEXT);
+        int end = Math.min(text.length(), first + 2 * SNIPPET_CONTEXT);
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("...");
+        }
+        for (int i = start; i < end; i++) {
+            if (marked[i] && (i == start || !marked[i - 1])) {
+                snippet.append("<em>");
+            }
+            appendEscaped(snippet, text.charAt(i));
+            if (marked[i] && (i + 1 == end || !marked[i + 1])) {
+                snippet.append("</em>");
+            }
+        }
+        if (end < text.length()) {
+            snippet.append("...");
+        }
+        return snippet.toString();
+    }
+
+    private void appendEscaped(StringBuilder builder, char c) {
+        switch (c) {
+            case '<' -> builder.append("&lt;");
+            case '>' -> builder.append("&gt;");
+            case '&' -> builder.append("&amp;");
+            case '"' -> builder.append("&quot;");
+            default -> builder.append(c);
+        }
+    }
+
+    private void addGrams(String text, Set<String> grams) {
+        for (String word : WORD_SEPARATOR.split(text)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = WORD_START + word;
+            grams.add(padded.substring(0, 2));
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+    }
+
+    private List<String> queryGrams(String term) {
+        if (term.length() < 3) {
+            // Short terms only match word prefixes
+            return List.of(WORD_START + term);
+        }
+        List<String> grams = new ArrayList<>(term.length() - 2);
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            grams.add(term.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Scored document with its stored field values and highlighted field snippets
+     */
+    @Value
+    public static class Match<K> {
+        K key;
+        Map<String, String> fields;
+        double score;
+        Map<String, String> highlights;
+    }
+
+    /**
+     * Top matches plus the total number of matching documents
+     */
+    @Value
+    public static class SearchResult<K> {
+        int totalHits;
+        List<Match<K>> matches;
+    }
+
+    @Value
+    private static class IndexedDocument<K> {
+        K key;
+        Map<String, String> fields;
+        Map<String, String> normalizedFields;
+        // Flattened for the scoring loop
+        String[] normalizedTexts;
+        double[] weights;
+        Set<String> grams;
+    }
+
+    @Value
+    private static class ScoredDocument<K> {
+        IndexedDocument<K> document;
+        double score;
+    }
+}
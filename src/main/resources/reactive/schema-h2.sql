@@ -0,0 +1,58 @@
+-- Development schema for the reactive availability API's own in-memory database
+-- (mirrors the tables Hibernate creates for the servlet API; production uses the shared database)
+
+CREATE SEQUENCE IF NOT EXISTS room_types_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS rooms_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS room_types (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    description TEXT,
+    base_price NUMERIC(10, 2) NOT NULL,
+    max_occupancy INTEGER NOT NULL,
+    size_sqm INTEGER,
+    amenities TEXT,
+    amenity_mask VARBINARY(1024),
+    image_url VARCHAR(255),
+    is_active BOOLEAN NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id BIGINT PRIMARY KEY,
+    room_number VARCHAR(10) NOT NULL UNIQUE,
+    room_type_id BIGINT NOT NULL REFERENCES room_types (id),
+    floor INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    view_type VARCHAR(50),
+    has_balcony BOOLEAN NOT NULL,
+    wifi_password VARCHAR(50),
+    last_maintenance TIMESTAMP,
+    notes TEXT,
+    is_active BOOLEAN NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_rooms_floor_room_number ON rooms (floor, room_number, id);
+CREATE INDEX IF NOT EXISTS idx_rooms_status_active_type_floor ON rooms (status, is_active, room_type_id, floor);
+
+CREATE TABLE IF NOT EXISTS reservations (
+    id BIGINT PRIMARY KEY,
+    room_id BIGINT NOT NULL REFERENCES rooms (id),
+    guest_name VARCHAR(100) NOT NULL,
+    guest_email VARCHAR(150),
+    number_of_guests INTEGER NOT NULL,
+    check_in DATE NOT NULL,
+    check_out DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    notes VARCHAR(500),
+    version BIGINT DEFAULT 0 NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_reservations_room_dates ON reservations (room_id, check_in, check_out);
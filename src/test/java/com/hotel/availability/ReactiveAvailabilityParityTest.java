@@ -0,0 +1,126 @@
+package com.hotel.availability;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.roommanagement.HotelRoomManagementApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The reactive availability API must answer like the servlet API it mirrors
+ *
+ * Starts the reactive application next to the servlet one, each on its
+ * own in-memory database seeded with the sample data, and compares the
+ * responses of the shared endpoints. The reactive API's development
+ * schema is a hand-written copy of the tables Hibernate generates, so
+ * its columns are compared with the servlet database as well.
+ */
+@SpringBootTest(
+    classes = HotelRoomManagementApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.datasource.url=jdbc:h2:mem:reactive-parity-servlet")
+@ActiveProfiles("test")
+class ReactiveAvailabilityParityTest {
+
+    private static final String REACTIVE_DATABASE = "reactive-parity-reactive";
+
+    private static ConfigurableApplicationContext reactiveApplication;
+
+    @LocalServerPort
+    private int servletPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void startReactiveApplication() {
+        reactiveApplication = new SpringApplicationBuilder(ReactiveAvailabilityApplication.class)
+            .web(WebApplicationType.REACTIVE)
+            .run(
+                "--spring.config.name=reactive-api",
+                "--server.port=0",
+                "--spring.r2dbc.url=r2dbc:h2:mem:///" + REACTIVE_DATABASE + "?options=DB_CLOSE_DELAY=-1");
+    }
+
+    @AfterAll
+    static void stopReactiveApplication() {
+        if (reactiveApplication != null) {
+            reactiveApplication.close();
+        }
+    }
+
+    @Test
+    void availableRoomsMatchServletApi() throws Exception {
+        assertSameResponse("/rooms/available");
+        assertSameResponse("/rooms/available/type/2");
+    }
+
+    @Test
+    void stayAvailabilityMatchesServletApi() throws Exception {
+        LocalDate checkIn = LocalDate.now().plusDays(10);
+        assertSameResponse("/reservations/availability?checkIn=" + checkIn + "&checkOut=" + checkIn.plusDays(2));
+        assertSameResponse("/reservations/availability?checkIn=" + checkIn + "&checkOut=" + checkIn.plusDays(2) +
+            "&roomTypeId=1");
+    }
+
+    @Test
+    void developmentSchemaMatchesHibernateSchema() {
+        JdbcTemplate reactiveJdbc = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:" + REACTIVE_DATABASE, "sa", "password"));
+
+        for (String table : List.of("ROOM_TYPES", "ROOMS", "RESERVATIONS")) {
+            assertThat(columns(reactiveJdbc, table))
+                .as("Columns of %s in reactive/schema-h2.sql", table)
+                .isEqualTo(columns(jdbcTemplate, table));
+        }
+    }
+
+    private void assertSameResponse(String path) throws Exception {
+        JsonNode servlet = get("http://localhost:" + servletPort + "/hotel-management/api/v1" + path);
+        JsonNode reactive = get("http://localhost:" + reactivePort() + "/hotel-availability/api/v1" + path);
+
+        assertThat(servlet).as("Servlet response for %s", path).isNotEmpty();
+        assertThat(reactive).as("Reactive response for %s", path).isEqualTo(servlet);
+    }
+
+    private JsonNode get(String url) throws Exception {
+        byte[] body = WebTestClient.bindToServer().baseUrl(url).build()
+            .get()
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .returnResult()
+            .getResponseBody();
+        return objectMapper.readTree(body);
+    }
+
+    private int reactivePort() {
+        return Integer.parseInt(reactiveApplication.getEnvironment().getProperty("local.server.port"));
+    }
+
+    private List<Map<String, Object>> columns(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForList(
+            "SELECT COLUMN_NAME, DATA_TYPE, IS_NULLABLE FROM INFORMATION_SCHEMA.COLUMNS " +
+            "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = ? ORDER BY COLUMN_NAME", table);
+    }
+}
@@ -0,0 +1,58 @@
+package com.hotel.roommanagement;
+
+import com.hotel.roommanagement.enums.RoomStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk room inserts for tests that need more rooms than the sample data
+ *
+ * Rooms are spread over the sample room types, floors, statuses and views
+ * and written with JDBC batches, like the benchmarks' seed data. Callers
+ * rebuild in-memory views (such as RoomStatisticsTracker) if they use them.
+ */
+public final class RoomSeeder {
+
+    private static final RoomStatus[] STATUSES = RoomStatus.values();
+    private static final String[] VIEW_TYPES = {"Sea view", "City view", "Garden view", "Courtyard"};
+    private static final int ROOM_TYPES = 4;
+    private static final int FLOORS = 50;
+    private static final int BATCH_SIZE = 1000;
+    private static final long FIRST_ID = 1_000_000L;
+
+    private RoomSeeder() {
+    }
+
+    /**
+     * Insert count rooms with IDs from 1,000,000 and room numbers "S0", "S1", ...
+     */
+    public static void seedRooms(JdbcTemplate jdbcTemplate, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[] {
+                FIRST_ID + i,
+                "S" + i,
+                1 + i % ROOM_TYPES,
+                1 + i % FLOORS,
+                STATUSES[i % STATUSES.length].name(),
+                VIEW_TYPES[i % VIEW_TYPES.length],
+                i % 3 == 0,
+                now,
+                now
+            });
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO rooms (id, room_number, room_type_id, floor, status, view_type, has_balcony, " +
+                    "is_active, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, true, 0, ?, ?)",
+                    batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.hotel.roommanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.dto.RoomTypeDto;
+import com.hotel.roommanagement.entity.Room;
+import com.hotel.roommanagement.service.RoomImportService;
+import com.hotel.roommanagement.service.RoomTypeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bulk room imports through POST /rooms:bulk
+ *
+ * Covers the JSON and CSV bodies, the set-based validation that rejects a
+ * whole import, and the JDBC batching of the inserts. Batching is checked
+ * with Hibernate's global statistics, so the outbox relay is kept from
+ * polling during the test.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:room-import",
+    "app.outbox.poll-interval=PT1H"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RoomImportControllerTest {
+
+    private static final String BULK_URL = "/api/v1/rooms:bulk";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RoomImportService roomImportService;
+
+    @Autowired
+    private RoomTypeService roomTypeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Test
+    void importsJsonArray() throws Exception {
+        List<RoomDto.CreateRequest> rooms = List.of(room("J1", 1L), room("J2", 2L), room("J3", 1L));
+
+        mockMvc.perform(post(BULK_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rooms)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.created").value(3))
+            .andExpect(jsonPath("$.ids.length()").value(3));
+
+        assertThat(countRooms("J1", "J2", "J3")).isEqualTo(3);
+    }
+
+    @Test
+    void importsCsvWithQuotedMultiLineFields() throws Exception {
+        String csv = "room_number,room_type_id,floor,has_balcony,notes\n" +
+            "C1,1,7,true,\"Corner room,\nsea view\"\n" +
+            "\n" +
+            "C2,2,7,false,\n";
+
+        mockMvc.perform(post(BULK_URL)
+                .contentType(RoomImportController.TEXT_CSV_VALUE)
+                .content(csv))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.created").value(2));
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT notes FROM rooms WHERE room_number = 'C1'", String.class)).isEqualTo("Corner room,\nsea view");
+        assertThat(countRooms("C2")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsJsonImportWithSetBasedErrors() throws Exception {
+        Long inactiveRoomTypeId = createInactiveRoomType("Retired JSON Suite");
+        List<RoomDto.CreateRequest> rooms = List.of(
+            room("V1", 1L),
+            room("V1", 1L),
+            room("101", 1L),
+            room("V2", inactiveRoomTypeId));
+
+        mockMvc.perform(post(BULK_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rooms)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validationErrors.length()").value(3))
+            .andExpect(jsonPath("$.validationErrors['rows[1].roomNumber']")
+                .value("Duplicate room number 'V1' (first seen in rows[0])"))
+            .andExpect(jsonPath("$.validationErrors['rows[2].roomNumber']")
+                .value("Room with number '101' already exists"))
+            .andExpect(jsonPath("$.validationErrors['rows[3].roomTypeId']")
+                .value("Cannot assign room to inactive room type"));
+
+        assertThat(countRooms("V1", "V2")).isZero();
+    }
+
+    @Test
+    void rejectsCsvImportWithErrorsKeyedByFileLine() throws Exception {
+        Long inactiveRoomTypeId = createInactiveRoomType("Retired CSV Suite");
+        String csv = "roomNumber,roomTypeId,floor,notes\n" +
+            "L1,1,3,\"first\nline\"\n" +
+            "\n" +
+            "L1,1,3,\n" +
+            "102,1,3,\n" +
+            "L2," + inactiveRoomTypeId + ",3,\n";
+
+        mockMvc.perform(post(BULK_URL)
+                .contentType(RoomImportController.TEXT_CSV_VALUE)
+                .content(csv))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validationErrors.length()").value(3))
+            .andExpect(jsonPath("$.validationErrors['lines[5].roomNumber']")
+                .value("Duplicate room number 'L1' (first seen in lines[2])"))
+            .andExpect(jsonPath("$.validationErrors['lines[6].roomNumber']")
+                .value("Room with number '102' already exists"))
+            .andExpect(jsonPath("$.validationErrors['lines[7].roomTypeId']")
+                .value("Cannot assign room to inactive room type"));
+
+        assertThat(countRooms("L1", "L2")).isZero();
+    }
+
+    @Test
+    void insertsRoomsInJdbcBatches() {
+        int rooms = batchSize * 2 + 20;
+        int chunks = (rooms + batchSize - 1) / batchSize;
+        List<RoomDto.CreateRequest> requests = IntStream.range(0, rooms)
+            .mapToObj(i -> room("B" + i, 1L))
+            .toList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // Measured before commit, so the outbox entries written on commit are not counted
+        long[] counts = transactionTemplate.execute(tx -> {
+            statistics.clear();
+            roomImportService.importRooms(requests);
+            long[] measured = {
+                statistics.getEntityStatistics(Room.class.getName()).getInsertCount(),
+                statistics.getPrepareStatementCount()
+            };
+            tx.setRollbackOnly();
+            return measured;
+        });
+
+        assertThat(counts[0]).isEqualTo(rooms);
+        // Two validation lookups, then one insert batch and one block of sequence values per chunk;
+        // a fresh sequence costs one extra call for its initial value
+        assertThat(counts[1]).isLessThanOrEqualTo(2 + chunks * 2L + 1);
+    }
+
+    private RoomDto.CreateRequest room(String roomNumber, Long roomTypeId) {
+        return RoomDto.CreateRequest.builder()
+            .roomNumber(roomNumber)
+            .roomTypeId(roomTypeId)
+            .floor(5)
+            .build();
+    }
+
+    private Long createInactiveRoomType(String name) {
+        RoomTypeDto.CreateRequest request = new RoomTypeDto.CreateRequest();
+        request.setName(name);
+        request.setBasePrice(new BigDecimal("300.00"));
+        request.setMaxOccupancy(2);
+        request.setAmenities("[\"WiFi\"]");
+        Long id = roomTypeService.createRoomType(request).getId();
+        roomTypeService.deleteRoomType(id);
+        return id;
+    }
+
+    private int countRooms(String... roomNumbers) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM rooms WHERE room_number IN (" +
+            String.join(", ", Collections.nCopies(roomNumbers.length, "?")) + ")",
+            Integer.class, (Object[]) roomNumbers);
+    }
+}
@@ -0,0 +1,71 @@
+package com.hotel.roommanagement.repository;
+
+import com.hotel.roommanagement.RoomSeeder;
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.service.RoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The equality filters of the room search must be served by the
+ * (status, is_active, room_type_id, floor) index
+ *
+ * The SQL generated from the Specification is taken from H2's query
+ * statistics and explained against 100k seeded rooms.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:specification-explain")
+@ActiveProfiles("test")
+class RoomSpecificationsExplainTest {
+
+    private static final String INDEX = "IDX_ROOMS_STATUS_ACTIVE_TYPE_FLOOR";
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rooms", Long.class) < 100_000) {
+            RoomSeeder.seedRooms(jdbcTemplate, 100_000);
+            jdbcTemplate.execute("ANALYZE");
+        }
+        // Toggling the setting clears previously collected statements
+        jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+        jdbcTemplate.execute("SET QUERY_STATISTICS TRUE");
+    }
+
+    @Test
+    void searchRoomsUsesStatusActiveTypeFloorIndex() {
+        RoomDto.FilterRequest filters = new RoomDto.FilterRequest();
+        filters.setStatus(RoomStatus.AVAILABLE);
+        filters.setIsActive(true);
+        filters.setRoomTypeId(2L);
+        filters.setFloor(4);
+
+        roomService.searchRooms(filters, PageRequest.of(0, 20));
+
+        List<String> pageQueries = jdbcTemplate.queryForList(
+            "SELECT SQL_STATEMENT FROM INFORMATION_SCHEMA.QUERY_STATISTICS " +
+            "WHERE LOWER(SQL_STATEMENT) LIKE 'select % from rooms %' " +
+            "AND LOWER(SQL_STATEMENT) NOT LIKE '%count(%'", String.class);
+        assertThat(pageQueries).hasSize(1);
+        String pageQuery = pageQueries.get(0);
+
+        // H2 explains statements with unbound parameters
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + pageQuery, String.class);
+
+        assertThat(plan).as("Plan for %s", pageQuery).containsIgnoringCase(INDEX);
+    }
+}
@@ -0,0 +1,70 @@
+package com.hotel.roommanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.roommanagement.dto.RoomTypeDto;
+import com.hotel.roommanagement.exception.BusinessLogicException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Amenity filters must keep working once the catalog outgrows a 64-bit mask
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:amenity-catalog")
+@ActiveProfiles("test")
+class AmenityCatalogTest {
+
+    @Autowired
+    private AmenityCatalog amenityCatalog;
+
+    @Autowired
+    private RoomTypeService roomTypeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void filtersOnAmenitiesBeyondTheFirst64() throws JsonProcessingException {
+        List<String> many = IntStream.range(0, 100).mapToObj(i -> "Amenity " + i).toList();
+        Long wide = createRoomType("Wide Suite", many);
+        Long narrow = createRoomType("Narrow Suite", many.subList(0, 70));
+
+        assertThat(amenityCatalog.getCatalog()).hasSizeGreaterThan(100);
+        assertThat(amenityCatalog.findRoomTypesWithAll(List.of("amenity 99", "Amenity 1")))
+            .containsExactly(wide);
+        assertThat(amenityCatalog.findRoomTypesWithAll(List.of("Amenity 65")))
+            .containsExactlyInAnyOrder(wide, narrow);
+        assertThat(amenityCatalog.findRoomTypesWithAll(List.of("WiFi", "Amenity 65"))).isEmpty();
+    }
+
+    @Test
+    void rejectsAmenitiesThatAreNotAJsonArray() {
+        RoomTypeDto.CreateRequest request = createRequest("Free Text Suite", "WiFi, TV");
+
+        assertThatThrownBy(() -> roomTypeService.createRoomType(request))
+            .isInstanceOf(BusinessLogicException.class)
+            .hasMessageContaining("JSON array");
+    }
+
+    private Long createRoomType(String name, List<String> amenities) throws JsonProcessingException {
+        return roomTypeService.createRoomType(createRequest(name, objectMapper.writeValueAsString(amenities))).getId();
+    }
+
+    private RoomTypeDto.CreateRequest createRequest(String name, String amenities) {
+        RoomTypeDto.CreateRequest request = new RoomTypeDto.CreateRequest();
+        request.setName(name);
+        request.setBasePrice(new BigDecimal("200.00"));
+        request.setMaxOccupancy(2);
+        request.setAmenities(amenities);
+        return request;
+    }
+}
@@ -0,0 +1,155 @@
+package com.hotel.roommanagement.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.enums.OutboxAggregateType;
+import com.hotel.roommanagement.enums.RoomChangeType;
+import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.event.OutboxMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Outbox entries commit or roll back with their change and reach the sink
+ * in the order the changes of each room were committed
+ *
+ * The relay is kept from polling, so the tests decide when it runs.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:outbox-relay",
+    "app.outbox.poll-interval=PT1H"
+})
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    private static final Long ROOM_ID = 2L;
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink outboxSink;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void rolledBackChangesWriteNoOutboxEntry() {
+        long entriesBefore = outboxEntries();
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            roomService.updateRoom(4L, RoomDto.UpdateRequest.builder().notes("Rolled back").build());
+            tx.setRollbackOnly();
+        });
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(tx -> {
+            roomService.toggleRoomStatus(4L);
+            throw new IllegalStateException("Failed after the change was published");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(outboxEntries()).isEqualTo(entriesBefore);
+        outboxRelay.relay();
+        assertThat(outboxSink.getMessages()).noneMatch(message -> message.getAggregateId().equals(4L));
+    }
+
+    @Test
+    void relaysConcurrentChangesOfOneRoomInCommitOrder() throws Exception {
+        long lastIdBefore = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM outbox_events", Long.class);
+        AtomicInteger applied = new AtomicInteger();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                String worker = "worker " + t;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                        String notes = worker + " change " + i;
+                        try {
+                            // Dirty-checked updates flushed at commit, and compare-and-set status updates
+                            if (random.nextBoolean()) {
+                                roomService.updateRoom(ROOM_ID, RoomDto.UpdateRequest.builder().notes(notes).build());
+                            } else {
+                                RoomStatus target = random.nextBoolean() ? RoomStatus.MAINTENANCE : RoomStatus.AVAILABLE;
+                                roomService.updateRoomStatus(ROOM_ID,
+                                    RoomDto.StatusUpdateRequest.builder().status(target).notes(notes).build());
+                            }
+                            applied.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            // Invalid transition or lost race: rolled back, nothing recorded
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        outboxRelay.relay();
+
+        List<OutboxMessage> messages = outboxSink.getMessages().stream()
+            .filter(message -> message.getId() > lastIdBefore)
+            .filter(message -> message.getAggregateType() == OutboxAggregateType.ROOM)
+            .filter(message -> message.getAggregateId().equals(ROOM_ID))
+            .toList();
+        assertThat(applied.get()).isPositive();
+        assertThat(messages).hasSize(applied.get());
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM outbox_events WHERE published_at IS NULL", Long.class)).isZero();
+
+        // Every change must start from the state the previous one left behind. Status updates are
+        // only guarded by the status, so the rest of their before snapshot may be stale
+        for (int i = 1; i < messages.size(); i++) {
+            OutboxMessage message = messages.get(i);
+            JsonNode previous = objectMapper.readTree(messages.get(i - 1).getPayload()).get("after");
+            JsonNode current = objectMapper.readTree(message.getPayload()).get("before");
+            assertThat(current.get("status")).as("status before message %d", message.getId())
+                .isEqualTo(previous.get("status"));
+            if (message.getEventType() == RoomChangeType.UPDATED) {
+                assertThat(current.get("notes")).as("notes before message %d", message.getId())
+                    .isEqualTo(previous.get("notes"));
+            }
+        }
+    }
+
+    private long outboxEntries() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class);
+    }
+}
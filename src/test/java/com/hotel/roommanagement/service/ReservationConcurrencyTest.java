@@ -0,0 +1,105 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.dto.ReservationDto;
+import com.hotel.roommanagement.exception.ReservationConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * More guests than free rooms booking one room type at once must fill
+ * every free room exactly once
+ *
+ * Losing bookers get a conflict; no room may end up with overlapping
+ * confirmed reservations.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:reservation-concurrency")
+@ActiveProfiles("test")
+class ReservationConcurrencyTest {
+
+    private static final long ROOM_TYPE_ID = 1L;
+    private static final int EXTRA_BOOKERS = 8;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentBookingsOfOneTypeNeverOverbook() throws Exception {
+        LocalDate checkIn = LocalDate.now().plusDays(30);
+        LocalDate checkOut = checkIn.plusDays(3);
+        int freeRooms = reservationService.getAvailability(ROOM_TYPE_ID, checkIn, checkOut).getTotalAvailable();
+        assertThat(freeRooms).isPositive();
+
+        int bookers = freeRooms + EXTRA_BOOKERS;
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(bookers);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < bookers; i++) {
+                ReservationDto.CreateRequest request = bookingRequest("Guest " + i, checkIn, checkOut);
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        reservationService.createReservation(request);
+                        booked.incrementAndGet();
+                    } catch (ReservationConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(booked.get()).isEqualTo(freeRooms);
+        assertThat(conflicts.get()).isEqualTo(EXTRA_BOOKERS);
+        assertThat(reservationService.getAvailability(ROOM_TYPE_ID, checkIn, checkOut).getTotalAvailable()).isZero();
+
+        Integer overlapping = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM reservations a JOIN reservations b " +
+            "ON a.room_id = b.room_id AND a.id < b.id " +
+            "WHERE a.status = 'CONFIRMED' AND b.status = 'CONFIRMED' " +
+            "AND a.check_in < b.check_out AND b.check_in < a.check_out", Integer.class);
+        assertThat(overlapping).isZero();
+
+        Integer bookedRooms = jdbcTemplate.queryForObject(
+            "SELECT COUNT(DISTINCT room_id) FROM reservations " +
+            "WHERE status = 'CONFIRMED' AND check_in = ? AND check_out = ?", Integer.class, checkIn, checkOut);
+        assertThat(bookedRooms).isEqualTo(freeRooms);
+    }
+
+    private ReservationDto.CreateRequest bookingRequest(String guestName, LocalDate checkIn, LocalDate checkOut) {
+        return ReservationDto.CreateRequest.builder()
+            .roomTypeId(ROOM_TYPE_ID)
+            .guestName(guestName)
+            .numberOfGuests(1)
+            .checkIn(checkIn)
+            .checkOut(checkOut)
+            .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.exception.BulkValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CSV records are split on line breaks outside quotes only, and every row
+ * keeps the number of the file line it starts on
+ */
+class RoomCsvParserTest {
+
+    private final RoomCsvParser parser = new RoomCsvParser();
+
+    @Test
+    void quotedFieldsMaySpanLines() {
+        List<RoomCsvParser.Row> rows = parser.parse(
+            "roomNumber,roomTypeId,floor,notes\r\n" +
+            "901,1,9,\"Two-line\r\nnote, with \"\"quotes\"\"\"\r\n" +
+            "902,1,9,Plain\r\n");
+
+        assertThat(rows).extracting(RoomCsvParser.Row::getLine).containsExactly(2, 4);
+        assertThat(rows.get(0).getRequest().getNotes()).isEqualTo("Two-line\r\nnote, with \"quotes\"");
+        assertThat(rows.get(1).getRequest().getRoomNumber()).isEqualTo("902");
+    }
+
+    @Test
+    void blankLinesAreSkippedButStillCounted() {
+        List<RoomCsvParser.Row> rows = parser.parse(
+            "\nroom_number,room_type_id,floor\n\n903,1,9\n   \n904,2,9\n");
+
+        assertThat(rows).extracting(RoomCsvParser.Row::getLine).containsExactly(4, 6);
+    }
+
+    @Test
+    void reportsMalformedRowsByFileLine() {
+        String csv = "roomNumber,roomTypeId,floor,hasBalcony\n" +
+            "905,1,\"multi\nline\",true\n" +
+            "\n" +
+            "906,1,9,maybe\n";
+
+        assertThatThrownBy(() -> parser.parse(csv))
+            .isInstanceOfSatisfying(BulkValidationException.class, ex -> assertThat(ex.getErrors())
+                .containsOnlyKeys("lines[2]", "lines[5]")
+                .containsEntry("lines[5]", "Invalid boolean: maybe"));
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() {
+        String csv = "roomNumber,roomTypeId,floor,notes\n907,1,9,ok\n908,1,9,\"never closed\n909,1,9,x\n";
+
+        assertThatThrownBy(() -> parser.parse(csv))
+            .isInstanceOfSatisfying(BulkValidationException.class, ex -> assertThat(ex.getErrors())
+                .containsOnlyKeys("lines[3]"));
+    }
+}
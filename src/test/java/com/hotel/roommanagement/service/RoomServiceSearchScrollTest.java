@@ -0,0 +1,70 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.RoomSeeder;
+import com.hotel.roommanagement.dto.RoomDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Walking a filtered search by cursor must return the same rooms, in the
+ * same order, as the offset-paginated search
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:search-scroll")
+@ActiveProfiles("test")
+class RoomServiceSearchScrollTest {
+
+    private static final int PAGE_SIZE = 7;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rooms", Long.class) < 150) {
+            RoomSeeder.seedRooms(jdbcTemplate, 150);
+        }
+    }
+
+    @Test
+    void searchRoomsAfterWalksAllMatchingRoomsInKeysetOrder() {
+        RoomDto.FilterRequest filters = new RoomDto.FilterRequest();
+        filters.setRoomTypeId(2L);
+        filters.setIsActive(true);
+
+        List<Long> expected = roomService.searchRooms(filters, 
+                PageRequest.of(0, 1000, Sort.by("floor", "roomNumber", "id")))
+            .map(RoomDto.Response::getId)
+            .getContent();
+
+        List<Long> scrolled = new ArrayList<>();
+        String cursor = null;
+        RoomDto.CursorPage page;
+        do {
+            page = roomService.searchRoomsAfter(filters, cursor, PAGE_SIZE, cursor == null);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            if (cursor == null) {
+                assertThat(page.getTotalElements()).isEqualTo(expected.size());
+            }
+            page.getContent().forEach(room -> scrolled.add(room.getId()));
+            cursor = page.getNextCursor();
+        } while (page.getHasNext());
+
+        assertThat(expected).hasSizeGreaterThan(PAGE_SIZE);
+        assertThat(scrolled).containsExactlyElementsOf(expected);
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,104 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.RoomSeeder;
+import com.hotel.roommanagement.dto.RoomDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Room pages must cost a fixed number of SQL statements, whatever their size
+ *
+ * Uses Hibernate's global statistics, so the outbox relay is kept from
+ * polling during the test. The second-level cache is emptied before each
+ * measurement so lazily loaded room types would show up as statements.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:statement-count",
+    "app.outbox.poll-interval=PT1H"
+})
+@ActiveProfiles("test")
+class RoomServiceStatementCountTest {
+
+    /**
+     * Page query, total count and per-type room counts
+     */
+    private static final long STATEMENTS_PER_PAGE = 3;
+
+    /**
+     * Keyset page query and per-type room counts
+     */
+    private static final long STATEMENTS_PER_CURSOR_PAGE = 2;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // More rooms than the largest page, so every page also runs the count query
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rooms", Long.class) < 150) {
+            RoomSeeder.seedRooms(jdbcTemplate, 150);
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void getAllRoomsIssuesSameStatementsForAnyPageSize() {
+        long smallPage = statementsFor(5);
+        long largePage = statementsFor(100);
+
+        assertThat(smallPage).isEqualTo(STATEMENTS_PER_PAGE);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void searchRoomsAfterIssuesSameStatementsForAnyPageSize() {
+        long smallPage = cursorStatementsFor(5);
+        long largePage = cursorStatementsFor(100);
+
+        assertThat(smallPage).isEqualTo(STATEMENTS_PER_CURSOR_PAGE);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    private long statementsFor(int pageSize) {
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        Page<RoomDto.Response> page = roomService.getAllRooms(PageRequest.of(0, pageSize));
+
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getContent()).allSatisfy(room -> assertThat(room.getRoomType()).isNotNull());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long cursorStatementsFor(int pageSize) {
+        RoomDto.FilterRequest filters = new RoomDto.FilterRequest();
+        filters.setIsActive(true);
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        RoomDto.CursorPage page = roomService.searchRoomsAfter(filters, null, pageSize, false);
+
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getContent()).allSatisfy(room -> assertThat(room.getRoomType()).isNotNull());
+        return statistics.getPrepareStatementCount();
+    }
+}
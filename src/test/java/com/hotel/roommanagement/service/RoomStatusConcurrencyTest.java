@@ -0,0 +1,120 @@
+package com.hotel.roommanagement.service;
+
+import com.hotel.roommanagement.dto.RoomDto;
+import com.hotel.roommanagement.enums.RoomStatus;
+import com.hotel.roommanagement.repository.RoomRepository;
+import com.hotel.roommanagement.repository.projection.RoomStatusCount;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many threads flipping the status of the same rooms must not lose updates
+ *
+ * Every status update that returns has bumped the room version exactly
+ * once; rejected transitions and lost compare-and-set races change
+ * nothing. The in-memory statistics must match the database afterwards.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:status-concurrency")
+@ActiveProfiles("test")
+class RoomStatusConcurrencyTest {
+
+    private static final List<Long> ROOM_IDS = List.of(1L, 2L, 4L);
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 40;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomStatisticsTracker statisticsTracker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentStatusUpdatesAreNeverLost() throws Exception {
+        Map<Long, Long> versionsBefore = versions();
+        Map<Long, AtomicInteger> applied = new HashMap<>();
+        ROOM_IDS.forEach(id -> applied.put(id, new AtomicInteger()));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                        Long roomId = ROOM_IDS.get(random.nextInt(ROOM_IDS.size()));
+                        RoomStatus target = RoomStatus.values()[random.nextInt(RoomStatus.values().length)];
+                        try {
+                            roomService.updateRoomStatus(roomId,
+                                RoomDto.StatusUpdateRequest.builder().status(target).build());
+                            applied.get(roomId).incrementAndGet();
+                        } catch (RuntimeException e) {
+                            // Invalid transition or lost race: rolled back, nothing applied
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<Long, Long> versionsAfter = versions();
+        for (Long roomId : ROOM_IDS) {
+            assertThat(versionsAfter.get(roomId) - versionsBefore.get(roomId))
+                .as("version increments of room %d", roomId)
+                .isEqualTo(applied.get(roomId).get());
+        }
+        assertThat(applied.values().stream().mapToInt(AtomicInteger::get).sum()).isPositive();
+
+        Map<RoomStatus, Long> database = new EnumMap<>(RoomStatus.class);
+        for (RoomStatusCount statusCount : roomRepository.getRoomStatisticsByStatus()) {
+            database.put(statusCount.getStatus(), statusCount.getRoomCount());
+        }
+        RoomDto.Statistics statistics = statisticsTracker.getStatistics().orElseThrow();
+        assertThat(statistics.getAvailableRooms()).isEqualTo(database.getOrDefault(RoomStatus.AVAILABLE, 0L));
+        assertThat(statistics.getOccupiedRooms()).isEqualTo(database.getOrDefault(RoomStatus.OCCUPIED, 0L));
+        assertThat(statistics.getMaintenanceRooms()).isEqualTo(database.getOrDefault(RoomStatus.MAINTENANCE, 0L));
+        assertThat(statistics.getOutOfOrderRooms()).isEqualTo(database.getOrDefault(RoomStatus.OUT_OF_ORDER, 0L));
+        assertThat(statistics.getTotalRooms())
+            .isEqualTo(database.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private Map<Long, Long> versions() {
+        Map<Long, Long> versions = new HashMap<>();
+        for (Long roomId : ROOM_IDS) {
+            versions.put(roomId, jdbcTemplate.queryForObject("SELECT version FROM rooms WHERE id = ?", Long.class, roomId));
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,90 @@
+package com.hotel.roommanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Matching, scoring, highlighting and slot bookkeeping of the n-gram index
+ */
+class TrigramIndexTest {
+
+    private final TrigramIndex<String> index = new TrigramIndex<>(Map.of("title", 3.0, "notes", 1.0));
+
+    @Test
+    void shortTermsMatchWordPrefixesOnlyAndLongerTermsMatchAnywhere() {
+        index.put("balcony", Map.of("notes", "Sea view balcony"));
+
+        assertThat(keys("ba")).containsExactly("balcony");
+        assertThat(keys("al")).isEmpty();
+        assertThat(keys("alc")).containsExactly("balcony");
+        assertThat(keys("ony")).containsExactly("balcony");
+        assertThat(keys("onyx")).isEmpty();
+    }
+
+    @Test
+    void everyQueryTermMustMatch() {
+        index.put("sea", Map.of("notes", "Sea view balcony"));
+        index.put("garden", Map.of("notes", "Garden view"));
+
+        assertThat(keys("view")).containsExactlyInAnyOrder("sea", "garden");
+        assertThat(keys("sea view")).containsExactly("sea");
+        assertThat(keys("sea garden")).isEmpty();
+        assertThat(index.search("sea garden", 10).getTotalHits()).isZero();
+    }
+
+    @Test
+    void ranksExactWordsOverPrefixesOverSubstringsAndWeightsFields() {
+        index.put("substring", Map.of("notes", "Has a minibar"));
+        index.put("prefix", Map.of("notes", "Barbecue terrace"));
+        index.put("exact", Map.of("notes", "Cocktail bar"));
+        index.put("title", Map.of("title", "Bar suite"));
+
+        assertThat(keys("bar")).containsExactly("title", "exact", "prefix", "substring");
+        assertThat(index.search("bar", 2).getMatches()).hasSize(2);
+        assertThat(index.search("bar", 2).getTotalHits()).isEqualTo(4);
+    }
+
+    @Test
+    void escapesHtmlAroundHighlights() {
+        index.put("html", Map.of("notes", "<b>Tom & \"Jerry\"</b>"));
+
+        TrigramIndex.Match<String> match = index.search("tom", 10).getMatches().get(0);
+
+        assertThat(match.getHighlights())
+            .containsEntry("notes", "&lt;b&gt;<em>Tom</em> &amp; &quot;Jerry&quot;&lt;/b&gt;");
+        assertThat(match.getFields()).containsEntry("notes", "<b>Tom & \"Jerry\"</b>");
+    }
+
+    @Test
+    void removedDocumentsStopMatchingAndTheirSlotIsReused() {
+        index.put("first", Map.of("notes", "Ocean suite"));
+        index.put("second", Map.of("notes", "Mountain cabin"));
+
+        index.remove("first");
+        assertThat(keys("ocean")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+
+        // Takes the freed slot; nothing of the removed document may leak into it
+        index.put("third", Map.of("notes", "Lake cabin"));
+        assertThat(keys("ocean")).isEmpty();
+        assertThat(keys("suite")).isEmpty();
+        assertThat(keys("cabin")).containsExactlyInAnyOrder("second", "third");
+        assertThat(index.size()).isEqualTo(2);
+
+        // Replacing a document drops its old text
+        index.put("second", Map.of("notes", "Forest lodge"));
+        assertThat(keys("mountain")).isEmpty();
+        assertThat(keys("lodge")).containsExactly("second");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private List<String> keys(String query) {
+        return index.search(query, 10).getMatches().stream()
+            .map(TrigramIndex.Match::getKey)
+            .toList();
+    }
+}